@@ -0,0 +1,122 @@
+package org.example.authlab.domain.auth.blacklist;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.authlab.global.util.Digests;
+import org.example.authlab.global.util.EmbeddedRedisFixture;
+import org.example.authlab.global.util.RedisUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 블랙리스트 저장 방식별 Redis 메모리 사용량 (토큰 원문 키 vs 버킷 Set 의 16byte digest)
+// 폐기 토큰 50,000개를 기록하고 INFO used_memory 증가량을 토큰당 바이트(bytesPerToken)로 보고
+// EVENTS 카운터는 반복 간에 합산되므로 측정은 1회 (벤치마크 전용 내장 Redis 를 쓰고 반복마다 그 서버만 비움)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(1)
+public class BlacklistMemoryBenchmark {
+    private static final int TOKENS = 50_000;
+    private static final long ACCESS_TTL = 1_800_000;
+
+    private EmbeddedRedisFixture redis;
+    private StringRedisTemplate redisTemplate;
+    private RedisUtil redisUtil;
+    private String[] tokens;
+    private long[] expirations;
+    private long now;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memory {
+        public double bytesPerToken;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        redis = EmbeddedRedisFixture.start();
+        redisTemplate = redis.redisTemplate();
+        redisUtil = redis.redisUtil();
+
+        Key key = Keys.hmacShaKeyFor(new byte[64]);
+        now = System.currentTimeMillis();
+        tokens = new String[TOKENS];
+        expirations = new long[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            expirations[i] = now + (i * ACCESS_TTL / TOKENS) + 1;
+            tokens[i] = Jwts.builder()
+                    .setId(UUID.randomUUID().toString())
+                    .setSubject("user" + i)
+                    .claim("type", "ACCESS")
+                    .setIssuedAt(new Date(expirations[i] - ACCESS_TTL))
+                    .setExpiration(new Date(expirations[i]))
+                    .signWith(key, SignatureAlgorithm.HS512)
+                    .compact();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        redis.close();
+    }
+
+    // 이전 방식: 토큰 원문을 키로 "logout" 저장
+    @Benchmark
+    public void legacyLayout(Memory memory) {
+        long before = usedMemory();
+        redisUtil.pipelined(ops -> {
+            for (int i = 0; i < TOKENS; i++) {
+                ops.opsForValue().set(tokens[i], "logout", expirations[i] - now, TimeUnit.MILLISECONDS);
+            }
+        });
+        memory.bytesPerToken = (double) (usedMemory() - before) / TOKENS;
+    }
+
+    // 현재 방식: 만료 시각 버킷 Set 에 16byte digest 저장
+    @Benchmark
+    public void compactLayout(Memory memory) {
+        long before = usedMemory();
+        redisUtil.pipelined(ops -> {
+            for (int i = 0; i < TOKENS; i++) {
+                redisUtil.setBlackList(ops, Arrays.copyOf(Digests.sha256(tokens[i]), 16), expirations[i]);
+            }
+        });
+        memory.bytesPerToken = (double) (usedMemory() - before) / TOKENS;
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+}
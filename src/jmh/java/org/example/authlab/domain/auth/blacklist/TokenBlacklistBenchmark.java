@@ -0,0 +1,43 @@
+package org.example.authlab.domain.auth.blacklist;
+
+import org.example.authlab.global.util.Digests;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 수행하는 블랙리스트 로컬 확인 비용 (jti digest + Bloom Filter 조회)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBlacklistBenchmark {
+    private RotatingBloomFilter bloomFilter;
+    private String jti;
+
+    @Setup
+    public void setUp() {
+        bloomFilter = new RotatingBloomFilter(1_800_000, 100_000, 0.001);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 50_000; i++) {
+            bloomFilter.add(Digests.sha256(UUID.randomUUID().toString()), now);
+        }
+        jti = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public boolean mightContain() {
+        return bloomFilter.mightContain(Digests.sha256(jti), System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.authlab.domain.auth.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.example.authlab.domain.auth.blacklist.TokenBlacklist;
+import org.example.authlab.domain.auth.blacklist.TokenGenerations;
+import org.example.authlab.domain.auth.metrics.AuthMetrics;
+import org.example.authlab.domain.user.cache.PrincipalCache;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.example.authlab.domain.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 1건당 JwtAuthenticationFilter 비용 (gc.alloc.rate.norm 으로 요청당 할당량 비교)
+// publicPath: permitAll 경로(/api/auth/**)에 토큰이 붙은 요청, protectedPath: 인증이 필요한 경로
+// 토큰 검증은 JwtClaimsCache, 사용자는 PrincipalCache 적중 상태
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final String USERNAME = "benchmark-user";
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest publicRequest;
+    private MockHttpServletRequest protectedRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = JwtUtilFixture.create(SECRET);
+
+        PrincipalCache principalCache = new PrincipalCache(meterRegistry, 10_000, 300);
+        principalCache.put(new AuthUser(1L, USERNAME, TwoFactorType.TOTP));
+        UserService userService = new UserService(null, principalCache, null, null);
+
+        // Redis 없이 동작하도록 폐기되지 않은 토큰으로 고정 (조회 비용은 TokenBlacklistBenchmark 에서 측정)
+        TokenBlacklist tokenBlacklist = new TokenBlacklist(null, null, meterRegistry, 1_800_000, 100_000, 0.001, 0) {
+            @Override
+            public boolean isRevoked(String token, JwtClaims claims) {
+                return false;
+            }
+        };
+
+        // 세대는 로컬 캐시 적중 상태 (Redis 조회 없음)
+        TokenGenerations tokenGenerations = new TokenGenerations(null, null, meterRegistry, 10_000, 300);
+        tokenGenerations.update(USERNAME, 0);
+
+        filter = new JwtAuthenticationFilter(jwtUtil, userService, tokenBlacklist, tokenGenerations, new AuthMetrics(meterRegistry));
+
+        String bearer = "Bearer " + jwtUtil.createAccessToken(USERNAME, null, TwoFactorType.TOTP, 0);
+        publicRequest = request("POST", "/api/auth/logout", bearer);
+        protectedRequest = request("GET", "/api/users/me", bearer);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object publicPath() throws Exception {
+        return run(publicRequest);
+    }
+
+    @Benchmark
+    public Object protectedPath() throws Exception {
+        return run(protectedRequest);
+    }
+
+    private Object run(MockHttpServletRequest request) throws Exception {
+        filter.doFilter(request, response, CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String bearer) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", bearer);
+        return request;
+    }
+}
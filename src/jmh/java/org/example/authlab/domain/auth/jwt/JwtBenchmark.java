@@ -0,0 +1,66 @@
+package org.example.authlab.domain.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// JWT 생성 / 검증 / 클레임 추출 비용
+// parseUncached: 요청마다 서명 검증 + 디코딩 (캐시 미스), parseCached: 검증된 클레임 캐시 적중
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtUtilFixture.create(SECRET);
+        accessToken = jwtUtil.createAccessToken("benchmark-user", null, TwoFactorType.TOTP, 0);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken("benchmark-user", null, TwoFactorType.TOTP, 0);
+    }
+
+    // 기존 방식: 검증할 때마다 parser 생성 + 서명 검증
+    @Benchmark
+    public String parseWithNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody()
+                .getSubject();
+    }
+
+    // 공유 parser 로 서명 검증 (캐시 미스 경로)
+    @Benchmark
+    public JwtClaims parseUncached() {
+        return jwtUtil.verifySignature(accessToken);
+    }
+
+    @Benchmark
+    public JwtClaims parseCached() {
+        return jwtUtil.parseClaims(accessToken);
+    }
+}
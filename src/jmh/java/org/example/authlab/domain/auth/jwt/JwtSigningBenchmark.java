@@ -0,0 +1,50 @@
+package org.example.authlab.domain.auth.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 서명 알고리즘별 발급 / 서명 검증 처리량 (HS512 공유 시크릿 vs ES256 키 링)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    @Param({"HS512", "ES256"})
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtUtilFixture.create(SECRET, SignatureAlgorithm.forName(algorithm));
+        accessToken = jwtUtil.createAccessToken("benchmark-user", null, TwoFactorType.TOTP, 0);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createAccessToken("benchmark-user", null, TwoFactorType.TOTP, 0);
+    }
+
+    @Benchmark
+    public JwtClaims verify() {
+        return jwtUtil.verifySignature(accessToken);
+    }
+}
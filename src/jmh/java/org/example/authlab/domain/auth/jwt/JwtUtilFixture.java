@@ -0,0 +1,33 @@
+package org.example.authlab.domain.auth.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+// 스프링 컨텍스트 없이 @Value 필드를 채워 JwtUtil 생성
+public final class JwtUtilFixture {
+
+    private JwtUtilFixture() {
+    }
+
+    public static JwtUtil create(String secret) {
+        return create(secret, SignatureAlgorithm.HS512);
+    }
+
+    // ES256 은 Redis 없이 로컬 키 1개로 서명
+    public static JwtUtil create(String secret, SignatureAlgorithm algorithm) {
+        JwtUtil jwtUtil = new JwtUtil(new JwtClaimsCache(10_000), JwtKeyRing.local(algorithm));
+        set(jwtUtil, "secretKey", secret);
+        set(jwtUtil, "accessTokenExpiration", 1_800_000L);
+        set(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static void set(JwtUtil target, String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtUtil.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
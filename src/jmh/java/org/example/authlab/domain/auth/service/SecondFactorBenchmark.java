@@ -0,0 +1,76 @@
+package org.example.authlab.domain.auth.service;
+
+import com.warrenstrange.googleauth.GoogleAuthenticator;
+import org.apache.commons.codec.binary.Base32;
+import org.example.authlab.domain.auth.totp.TotpVerifier;
+import org.example.authlab.global.util.SecureRandomPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+// 2차 인증 연산 비용: TOTP 검증 (googleauth / TotpVerifier), TOTP 시크릿 생성, CSPRNG 6자리 코드 생성
+// 코드 생성은 4 스레드 동시 호출로 공유 SecureRandom 과 SecureRandomPool 의 경합 차이를 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecondFactorBenchmark {
+    private final GoogleAuthenticator gAuth = new GoogleAuthenticator();
+    private final SecureRandom sharedRandom = new SecureRandom();
+    private final SecureRandomPool randomPool = new SecureRandomPool();
+    private final TotpVerifier totpVerifier = new TotpVerifier(10_000, 1);
+
+    private String totpSecret;
+    private int totpCode;
+
+    @Setup
+    public void setUp() {
+        totpSecret = gAuth.createCredentials().getKey();
+        totpCode = gAuth.getTotpPassword(totpSecret);
+    }
+
+    @Benchmark
+    public boolean totpAuthorize() {
+        return gAuth.authorize(totpSecret, totpCode);
+    }
+
+    @Benchmark
+    public long totpVerify() {
+        return totpVerifier.verify(totpSecret, totpCode);
+    }
+
+    @Benchmark
+    public String totpSecretWithCreateCredentials() {
+        return gAuth.createCredentials().getKey();
+    }
+
+    @Benchmark
+    public String totpSecretWithRandomPool() {
+        return new Base32().encodeToString(randomPool.nextBytes(20));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String csprngCodeWithSharedRandom() {
+        return String.valueOf(100000 + sharedRandom.nextInt(900000));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String csprngCodeWithRandomPool() {
+        return String.valueOf(100000 + randomPool.nextInt(900000));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.authlab.domain.auth.totp;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// TOTP 등록 QR 코드 렌더링 비용과 할당량
+// zxing javase (BitMatrix -> BufferedImage -> ImageIO PNG) / QrCodeRenderer (모듈 행렬에서 바로 PNG, SVG)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrCodeRendererBenchmark {
+    private static final int SCALE = 4;
+    private static final String USERNAME = "benchmark-user@example.com";
+    private static final String SECRET = "JBSWY3DPEHPK3PXPJBSWY3DPEHPK3PXP";
+
+    private final QRCodeWriter qrCodeWriter = new QRCodeWriter();
+    private final QrCodeRenderer renderer = new QrCodeRenderer(SCALE, 1);
+    private final TotpProvisioning provisioning = new TotpProvisioning("AuthLab", 600, SCALE, 1);
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+
+    private String uri;
+    private ByteMatrix matrix;
+    private int size;
+
+    @Setup
+    public void setUp() {
+        uri = provisioning.uri(USERNAME, SECRET);
+        matrix = renderer.encode(uri);
+        size = renderer.size(matrix);
+    }
+
+    // 같은 크기, 같은 여백(4 모듈)으로 생성
+    @Benchmark
+    public int pngWithImageIO() throws WriterException, IOException {
+        out.reset();
+        BitMatrix bits = qrCodeWriter.encode(uri, BarcodeFormat.QR_CODE, size, size,
+                Map.of(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M, EncodeHintType.MARGIN, 4));
+        MatrixToImageWriter.writeToStream(bits, "PNG", out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int pngWithRenderer() throws IOException {
+        out.reset();
+        renderer.writePng(renderer.encode(uri), out);
+        return out.size();
+    }
+
+    @Benchmark
+    public int svgWithRenderer() throws IOException {
+        out.reset();
+        renderer.writeSvg(renderer.encode(uri), out);
+        return out.size();
+    }
+
+    // QR 인코딩(Reed-Solomon, 마스크 선택)을 제외한 이미지 출력 비용
+    @Benchmark
+    public int pngWriteOnly() throws IOException {
+        out.reset();
+        renderer.writePng(matrix, out);
+        return out.size();
+    }
+}
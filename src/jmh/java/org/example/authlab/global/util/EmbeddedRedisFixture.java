@@ -0,0 +1,54 @@
+package org.example.authlab.global.util;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+// 벤치마크 전용 내장 Redis (빈 포트에 새로 띄우므로 공유 서버의 데이터를 건드리지 않음)
+public final class EmbeddedRedisFixture implements AutoCloseable {
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+
+    private EmbeddedRedisFixture(int port) throws IOException {
+        this.server = new RedisServer(port);
+        server.start();
+        // 운영 설정(spring.data.redis.lettuce.pool)과 같이 파이프라인용 전용 커넥션을 풀에서 재사용
+        this.connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port),
+                LettucePoolingClientConfiguration.defaultConfiguration());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    public static EmbeddedRedisFixture start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        return new EmbeddedRedisFixture(port);
+    }
+
+    public StringRedisTemplate redisTemplate() {
+        return redisTemplate;
+    }
+
+    // 운영 기본값과 같은 버킷 크기의 RedisUtil
+    public RedisUtil redisUtil() {
+        RedisUtil redisUtil = new RedisUtil(redisTemplate);
+        ReflectionTestUtils.setField(redisUtil, "blackListBucketMillis", 300_000L);
+        return redisUtil;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+}
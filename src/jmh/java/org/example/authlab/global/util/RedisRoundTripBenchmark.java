@@ -0,0 +1,108 @@
+package org.example.authlab.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 인증 단계의 Redis 왕복 비용: 명령마다 StringRedisTemplate 호출 vs 파이프라인/Lua 스크립트 (내장 Redis, 로컬 왕복 기준)
+// emailLogin*: 이메일 코드 2차 인증 세션 생성 + 코드 확인/소비 (이전 방식은 SET 2회 + GET 2회 + DEL 2회)
+// blacklist*: 토큰 10개의 블랙리스트 확인 (SISMEMBER 10회 vs 파이프라인 1회)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedisRoundTripBenchmark {
+    private static final String USERNAME = "benchmark-user";
+    private static final String CODE = "123456";
+    private static final long TTL_MILLIS = 300_000;
+    private static final int TOKENS = 10;
+
+    private EmbeddedRedisFixture redis;
+    private StringRedisTemplate redisTemplate;
+    private RedisUtil redisUtil;
+    private String preAuthToken;
+    private List<byte[]> digests;
+    private long[] expirations;
+
+    @Setup
+    public void setUp() throws Exception {
+        redis = EmbeddedRedisFixture.start();
+        redisTemplate = redis.redisTemplate();
+        redisUtil = redis.redisUtil();
+        preAuthToken = UUID.randomUUID().toString();
+
+        // 절반은 폐기된 토큰
+        long expiration = System.currentTimeMillis() + 1_800_000;
+        digests = new ArrayList<>(TOKENS);
+        expirations = new long[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            byte[] digest = Digests.sha256(UUID.randomUUID().toString());
+            digests.add(digest);
+            expirations[i] = expiration;
+            if (i % 2 == 0) {
+                redisUtil.setBlackList(digest, expiration);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Benchmark
+    public boolean emailLoginPerCall() {
+        redisTemplate.opsForValue().set("PRE_AUTH:" + preAuthToken, USERNAME, TTL_MILLIS, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForValue().set("CSPRNG_CODE:" + USERNAME, CODE, TTL_MILLIS, TimeUnit.MILLISECONDS);
+
+        String username = redisTemplate.opsForValue().get("PRE_AUTH:" + preAuthToken);
+        String code = redisTemplate.opsForValue().get("CSPRNG_CODE:" + username);
+        redisTemplate.delete("CSPRNG_CODE:" + username);
+        redisTemplate.delete("PRE_AUTH:" + preAuthToken);
+        return CODE.equals(code);
+    }
+
+    @Benchmark
+    public boolean emailLoginScripted() {
+        redisUtil.setPreAuthSession(preAuthToken, USERNAME, CODE, TTL_MILLIS);
+        return redisUtil.verifyPreAuth(preAuthToken, CODE, 5).status() == 1;
+    }
+
+    @Benchmark
+    public int blacklistPerCall() {
+        int revoked = 0;
+        for (int i = 0; i < TOKENS; i++) {
+            if (redisUtil.isBlackListed(digests.get(i), expirations[i])) {
+                revoked++;
+            }
+        }
+        return revoked;
+    }
+
+    @Benchmark
+    public int blacklistPipelined() {
+        int revoked = 0;
+        for (Boolean result : redisUtil.areBlackListed(digests, expirations)) {
+            if (result) {
+                revoked++;
+            }
+        }
+        return revoked;
+    }
+}
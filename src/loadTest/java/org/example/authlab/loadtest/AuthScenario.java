@@ -0,0 +1,199 @@
+package org.example.authlab.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warrenstrange.googleauth.GoogleAuthenticator;
+import jakarta.persistence.EntityManager;
+import org.example.authlab.domain.user.cache.UserChangedEvent;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 가상 사용자 1회 시나리오: signup → (2FA 등록) → login → login/2fa → users/me → refresh → logout → (refresh 거절) → (인증 없는 introspect 거절) → introspect → logout/all → introspect
+// 2FA 등록은 API 가 없으므로 DB 에 직접 반영하고 측정하지 않음
+public class AuthScenario {
+    private static final String PASSWORD = "load-test-password";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CapturingCodeSender codeSender;
+    private final double totpRatio;
+    // 토큰 일괄 검사용 서비스 계정 (Authorization 헤더 값)
+    private final String introspectionAuthorization;
+    private final String runId;
+
+    private final GoogleAuthenticator gAuth = new GoogleAuthenticator();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public AuthScenario(HttpClient httpClient, String baseUrl, ObjectMapper objectMapper,
+                        TransactionTemplate transactionTemplate, EntityManager entityManager,
+                        ApplicationEventPublisher eventPublisher, CapturingCodeSender codeSender, double totpRatio,
+                        String introspectionAuthorization) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.codeSender = codeSender;
+        this.totpRatio = totpRatio;
+        this.introspectionAuthorization = introspectionAuthorization;
+        this.runId = Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    public Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    // 한 번의 로그인 사이클, 중간에 실패하면 false
+    public boolean run(int worker, long iteration) throws Exception {
+        String username = "lt-" + runId + "-" + worker + "-" + iteration;
+        String email = username + "@loadtest.local";
+        TwoFactorType type = ThreadLocalRandom.current().nextDouble() < totpRatio ? TwoFactorType.TOTP : TwoFactorType.CSPRNG;
+        String suffix = ":" + type;
+
+        if (call("signup", "POST", "/api/auth/signup", Map.of("username", username, "password", PASSWORD), null) == null) {
+            return false;
+        }
+        String secret = type == TwoFactorType.TOTP ? gAuth.createCredentials().getKey() : null;
+        enroll(username, type, secret, email);
+
+        JsonNode login = call("login" + suffix, "POST", "/api/auth/login", Map.of("username", username, "password", PASSWORD), null);
+        if (login == null) {
+            return false;
+        }
+
+        String code = type == TwoFactorType.TOTP
+                ? String.format("%06d", gAuth.getTotpPassword(secret))
+                : codeSender.await(email, 10_000);
+        if (code == null) {
+            stats("login/2fa" + suffix).error();
+            return false;
+        }
+
+        JsonNode tokens = call("login/2fa" + suffix, "POST", "/api/auth/login/2fa",
+                Map.of("preAuthToken", login.path("preAuthToken").asText(), "code", code), null);
+        if (tokens == null) {
+            return false;
+        }
+
+        if (call("users/me", "GET", "/api/users/me", null, "Bearer " + tokens.path("accessToken").asText()) == null) {
+            return false;
+        }
+
+        JsonNode refreshed = call("refresh", "POST", "/api/auth/refresh",
+                Map.of("refreshToken", tokens.path("refreshToken").asText()), null);
+        if (refreshed == null
+                || call("logout", "POST", "/api/auth/logout", null, "Bearer " + refreshed.path("accessToken").asText()) == null) {
+            return false;
+        }
+        // 로그아웃하면 같은 로그인의 refresh 토큰도 더 이상 쓸 수 없음
+        if (!rejected("refresh:after-logout", "POST", "/api/auth/refresh",
+                Map.of("refreshToken", refreshed.path("refreshToken").asText()), null)) {
+            return false;
+        }
+
+        // 토큰 일괄 검사는 서비스 계정만 호출 가능
+        if (!rejected("introspect:anonymous", "POST", "/api/auth/introspect",
+                Map.of("tokens", List.of(tokens.path("accessToken").asText())), null)) {
+            return false;
+        }
+
+        // 로그아웃한 토큰만 비활성이어야 함
+        JsonNode introspected = call("introspect", "POST", "/api/auth/introspect",
+                Map.of("tokens", List.of(tokens.path("accessToken").asText(), refreshed.path("accessToken").asText())), introspectionAuthorization);
+        if (introspected == null) {
+            return false;
+        }
+        JsonNode first = introspected.path("tokens").path(0);
+        if (!first.path("active").asBoolean() || !type.name().equals(first.path("mfa").asText())
+                || introspected.path("tokens").path(1).path("active").asBoolean()) {
+            return false;
+        }
+
+        // 모든 세션 폐기 후에는 남은 access 토큰도 비활성
+        if (call("logout/all", "POST", "/api/auth/logout/all", null, "Bearer " + tokens.path("accessToken").asText()) == null) {
+            return false;
+        }
+        JsonNode revoked = call("introspect", "POST", "/api/auth/introspect",
+                Map.of("tokens", List.of(tokens.path("accessToken").asText())), introspectionAuthorization);
+        return revoked != null && !revoked.path("tokens").path(0).path("active").asBoolean();
+    }
+
+    // 직접 갱신했으므로 커밋 후 캐시도 함께 비움
+    private void enroll(String username, TwoFactorType type, String secret, String email) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager
+                    .createQuery("update User u set u.twoFactorType = :type, u.totpSecret = :secret, u.email = :email where u.username = :username")
+                    .setParameter("type", type)
+                    .setParameter("secret", secret)
+                    .setParameter("email", email)
+                    .setParameter("username", username)
+                    .executeUpdate();
+            eventPublisher.publishEvent(new UserChangedEvent(username));
+        });
+    }
+
+    // 응답 본문(JSON 이 아니면 TextNode)을 반환, 실패 시 null
+    // authorization: Authorization 헤더 값 (Bearer, Basic), 없으면 null
+    private JsonNode call(String endpoint, String method, String path, Object body, String authorization) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(method, path, body, authorization);
+        long elapsed = System.nanoTime() - start;
+
+        if (response == null || response.statusCode() / 100 != 2) {
+            stats(endpoint).error();
+            return null;
+        }
+        stats(endpoint).record(elapsed);
+        String text = response.body();
+        return text.startsWith("{") ? objectMapper.readTree(text) : objectMapper.getNodeFactory().textNode(text);
+    }
+
+    // 거절되어야 하는 요청, 거절되면 true (예외를 상태 코드로 매핑하지 않으므로 프로필에 따라 4xx/5xx, 2xx 만 아니면 거절로 봄)
+    private boolean rejected(String endpoint, String method, String path, Object body, String authorization) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(method, path, body, authorization);
+        long elapsed = System.nanoTime() - start;
+
+        if (response == null || response.statusCode() / 100 == 2) {
+            stats(endpoint).error();
+            return false;
+        }
+        stats(endpoint).record(elapsed);
+        return true;
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body, String authorization) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json");
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        request.method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (java.io.IOException e) {
+            return null;
+        }
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.authlab.loadtest;
+
+import org.example.authlab.domain.auth.delivery.CodeMessage;
+import org.example.authlab.domain.auth.delivery.CodeSender;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 발송된 코드를 메일함 대신 메모리에 보관 (SMTP 지연 시뮬레이션은 유지)
+public class CapturingCodeSender implements CodeSender {
+    private final Map<String, String> inbox = new ConcurrentHashMap<>();
+    private final long latencyMs;
+
+    public CapturingCodeSender(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public void send(List<CodeMessage> batch) throws InterruptedException {
+        Thread.sleep(latencyMs);
+        for (CodeMessage message : batch) {
+            inbox.put(message.email(), message.code());
+        }
+    }
+
+    // 코드가 도착할 때까지 대기 (timeout 초과 시 null)
+    public String await(String email, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline) {
+            String code = inbox.remove(email);
+            if (code != null) {
+                return code;
+            }
+            Thread.sleep(5);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.authlab.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 지연 시간 히스토그램 + 오류 수
+public class EndpointStats {
+    private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), histogram.getHighestTrackableValue()));
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public void reset() {
+        histogram.reset();
+        errors.reset();
+    }
+
+    public Map<String, Object> summary(double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errors.sum());
+        summary.put("throughputPerSec", round(histogram.getTotalCount() / elapsedSeconds));
+        summary.put("meanMs", round(histogram.getMean() / 1000.0));
+        summary.put("p50Ms", millis(50));
+        summary.put("p99Ms", millis(99));
+        summary.put("p999Ms", millis(99.9));
+        summary.put("maxMs", round(histogram.getMaxValue() / 1000.0));
+        return summary;
+    }
+
+    private double millis(double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
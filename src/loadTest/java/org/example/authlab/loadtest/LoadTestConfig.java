@@ -0,0 +1,21 @@
+package org.example.authlab.loadtest;
+
+// 부하 테스트 설정 (-PloadTest.xxx → 시스템 프로퍼티)
+public record LoadTestConfig(int concurrency,
+                             int durationSeconds,
+                             int warmupSeconds,
+                             double totpRatio,
+                             String profiles,
+                             String report) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadTest.concurrency", 16),
+                Integer.getInteger("loadTest.durationSeconds", 30),
+                Integer.getInteger("loadTest.warmupSeconds", 5),
+                Double.parseDouble(System.getProperty("loadTest.totpRatio", "0.5")),
+                System.getProperty("loadTest.profiles", ""),
+                System.getProperty("loadTest.report", "build/reports/loadtest/result.json")
+        );
+    }
+}
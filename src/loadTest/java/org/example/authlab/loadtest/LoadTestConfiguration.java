@@ -0,0 +1,19 @@
+package org.example.authlab.loadtest;
+
+import org.example.authlab.domain.auth.delivery.CodeSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    public CapturingCodeSender capturingCodeSender(@Value("${auth.delivery.mock-latency-ms:300}") long latencyMs) {
+        return new CapturingCodeSender(latencyMs);
+    }
+}
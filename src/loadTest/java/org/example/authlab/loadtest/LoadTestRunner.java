@@ -0,0 +1,155 @@
+package org.example.authlab.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.authlab.AuthLabApplication;
+import org.example.authlab.global.util.ThreadFactories;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 내장 Redis + H2 로 애플리케이션을 띄우고 AuthScenario 를 동시에 반복 실행
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(AuthLabApplication.class)
+                    .profiles(profiles(config))
+                    .run("--server.port=0", "--spring.data.redis.port=" + redisPort);
+            Map<String, Object> report = run(config, context);
+            write(config, report);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            redis.stop();
+        }
+        System.exit(0);
+    }
+
+    private static Map<String, Object> run(LoadTestConfig config, ConfigurableApplicationContext context) throws Exception {
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        ObjectMapper objectMapper = new ObjectMapper();
+        AuthScenario scenario = new AuthScenario(
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                "http://localhost:" + port,
+                objectMapper,
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class)),
+                context.getBean(EntityManager.class),
+                context,
+                context.getBean(CapturingCodeSender.class),
+                config.totpRatio(),
+                basicAuthorization(context.getEnvironment().getRequiredProperty("auth.introspection.client-id"),
+                        context.getEnvironment().getRequiredProperty("auth.introspection.client-secret")));
+
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long stopAt = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        ExecutorService clients = Executors.newFixedThreadPool(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            int worker = i;
+            clients.execute(() -> {
+                long iteration = 0;
+                while (System.nanoTime() < stopAt) {
+                    try {
+                        boolean ok = scenario.run(worker, iteration++);
+                        if (System.nanoTime() >= measureFrom) {
+                            (ok ? completed : failed).increment();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        failed.increment();
+                    }
+                }
+            });
+        }
+
+        // 워밍업 구간의 측정값은 버림
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFrom - System.nanoTime()));
+        scenario.stats().values().forEach(EndpointStats::reset);
+        clients.shutdown();
+        clients.awaitTermination(config.durationSeconds() + 60L, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - measureFrom) / 1e9;
+
+        Map<String, Object> endpoints = new TreeMap<>();
+        scenario.stats().forEach((name, stats) -> endpoints.put(name, stats.summary(elapsedSeconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("profiles", List.of(context.getEnvironment().getActiveProfiles()));
+        report.put("virtualThreads", context.getBean(ThreadFactories.class).isVirtual());
+        report.put("concurrency", config.concurrency());
+        report.put("durationSeconds", round(elapsedSeconds));
+        report.put("totpRatio", config.totpRatio());
+        report.put("completedCycles", completed.sum());
+        report.put("failedCycles", failed.sum());
+        report.put("cyclesPerSec", round(completed.sum() / elapsedSeconds));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static void write(LoadTestConfig config, Map<String, Object> report) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        File file = new File(config.report());
+        file.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        System.out.println("Load test report: " + file.getAbsolutePath());
+    }
+
+    private static String basicAuthorization(String clientId, String clientSecret) {
+        return "Basic " + Base64.getEncoder().encodeToString((clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] profiles(LoadTestConfig config) {
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        for (String profile : config.profiles().split(",")) {
+            if (!profile.isBlank()) {
+                profiles.add(profile.trim());
+            }
+        }
+        return profiles.toArray(String[]::new);
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.authlab.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 기동 시간 측정: 새 JVM 으로 prod 프로필 애플리케이션을 띄우고 첫 로그인이 성공할 때까지의 시간
+// 변형(jvm / aot / cds / aot-cds)마다 반복 실행해서 첫 응답(회원가입)과 첫 로그인 시각의 중앙값을 기록
+// 애플리케이션은 extractBootJar 결과(app.jar + lib/)로 실행하고, DB 는 H2 메모리 DB, Redis 는 내장 Redis 로 대체
+public final class StartupBenchmark {
+    private static final String MAIN_CLASS = "org.example.authlab.AuthLabApplication";
+    private static final String PASSWORD = "startup-password-1!";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmarkConfig config = StartupBenchmarkConfig.fromSystemProperties();
+        Path appDir = Path.of(config.appDir()).toAbsolutePath();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        Map<String, Object> variants = new LinkedHashMap<>();
+        try {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(1))
+                    .build();
+            for (String variant : config.variants().split(",")) {
+                List<long[]> runs = new ArrayList<>();
+                for (int i = 0; i < config.iterations(); i++) {
+                    runs.add(measure(config, appDir, variant.trim(), redisPort, httpClient));
+                }
+                variants.put(variant.trim(), summary(runs));
+            }
+        } finally {
+            redis.stop();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("iterations", config.iterations());
+        report.put("variants", variants);
+        write(config, report);
+        System.exit(0);
+    }
+
+    // {첫 응답까지 ms, 첫 로그인까지 ms}
+    private static long[] measure(StartupBenchmarkConfig config, Path appDir, String variant, int redisPort,
+                                  HttpClient httpClient) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString()));
+        command.addAll(jvmOptions(variant, appDir));
+        // 학습 실행(-jar app.jar)의 클래스패스 뒤에 H2 를 붙여야 CDS 아카이브를 그대로 사용할 수 있음
+        command.addAll(List.of("-cp", appDir.resolve("auth-lab.jar") + File.pathSeparator + h2Jar(), MAIN_CLASS,
+                "--spring.profiles.active=prod",
+                "--server.port=" + port,
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.url=jdbc:h2:mem:auth_lab;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--jwt.secret=startup-benchmark-secret-startup-benchmark-secret-startup-benchmark-0123",
+                "--logging.level.root=warn"));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + TimeUnit.SECONDS.toNanos(config.timeoutSeconds());
+            String baseUrl = "http://localhost:" + port;
+            String body = "{\"username\":\"startup\",\"password\":\"" + PASSWORD + "\"}";
+
+            // 포트가 열리고 첫 요청(회원가입)이 성공할 때까지 재시도
+            while (post(httpClient, baseUrl + "/api/auth/signup", body) / 100 != 2) {
+                check(process, deadline, variant);
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            long firstResponse = System.nanoTime() - start;
+            while (post(httpClient, baseUrl + "/api/auth/login", body) != 200) {
+                check(process, deadline, variant);
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            long firstLogin = System.nanoTime() - start;
+            System.out.printf("%s: first response %d ms, first login %d ms%n", variant,
+                    TimeUnit.NANOSECONDS.toMillis(firstResponse), TimeUnit.NANOSECONDS.toMillis(firstLogin));
+            return new long[]{TimeUnit.NANOSECONDS.toMillis(firstResponse), TimeUnit.NANOSECONDS.toMillis(firstLogin)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> jvmOptions(String variant, Path appDir) {
+        List<String> options = new ArrayList<>();
+        if (variant.contains("aot")) {
+            options.add("-Dspring.aot.enabled=true");
+        }
+        if (variant.contains("cds")) {
+            File archive = appDir.resolve("application.jsa").toFile();
+            if (!archive.isFile()) {
+                throw new IllegalStateException("CDS 아카이브가 없습니다. ./gradlew cdsArchive 를 먼저 실행하세요: " + archive);
+            }
+            options.add("-XX:SharedArchiveFile=" + archive);
+            options.add("-Xlog:cds=off");
+        } else if (!variant.equals("jvm") && !variant.equals("aot")) {
+            throw new IllegalArgumentException("알 수 없는 변형입니다: " + variant);
+        }
+        return options;
+    }
+
+    // 연결 실패는 -1
+    private static int post(HttpClient httpClient, String url, String body) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void check(Process process, long deadline, String variant) {
+        if (!process.isAlive()) {
+            throw new IllegalStateException(variant + " 실행이 종료되었습니다 (exit " + process.exitValue() + ")");
+        }
+        if (System.nanoTime() > deadline) {
+            throw new IllegalStateException(variant + " 실행이 제한 시간 안에 첫 로그인을 처리하지 못했습니다.");
+        }
+    }
+
+    private static Map<String, Object> summary(List<long[]> runs) {
+        long[] firstResponse = runs.stream().mapToLong(run -> run[0]).sorted().toArray();
+        long[] firstLogin = runs.stream().mapToLong(run -> run[1]).sorted().toArray();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("firstResponseMedianMs", firstResponse[firstResponse.length / 2]);
+        summary.put("firstLoginMedianMs", firstLogin[firstLogin.length / 2]);
+        summary.put("firstLoginMinMs", firstLogin[0]);
+        summary.put("firstLoginMaxMs", firstLogin[firstLogin.length - 1]);
+        summary.put("firstLoginMs", Arrays.stream(runs.stream().mapToLong(run -> run[1]).toArray()).boxed().toList());
+        return summary;
+    }
+
+    private static String h2Jar() throws Exception {
+        return Path.of(Class.forName("org.h2.Driver").getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    private static void write(StartupBenchmarkConfig config, Map<String, Object> report) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        File file = new File(config.report());
+        file.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, report);
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        System.out.println("Startup benchmark report: " + file.getAbsolutePath());
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.authlab.loadtest;
+
+// 기동 시간 측정 설정 (-Pstartup.xxx → 시스템 프로퍼티)
+public record StartupBenchmarkConfig(String appDir,
+                                     String variants,
+                                     int iterations,
+                                     int timeoutSeconds,
+                                     String report) {
+
+    public static StartupBenchmarkConfig fromSystemProperties() {
+        return new StartupBenchmarkConfig(
+                System.getProperty("startup.appDir", "build/app"),
+                System.getProperty("startup.variants", "jvm,aot,cds,aot-cds"),
+                Integer.getInteger("startup.iterations", 5),
+                Integer.getInteger("startup.timeoutSeconds", 120),
+                System.getProperty("startup.report", "build/reports/startup/result.json")
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.authlab.domain.auth.blacklist;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 시간 구간(window)별로 나눈 Bloom Filter
+// 현재 구간에 추가하고, 조회는 모든 구간을 확인. 다음 구간은 미리 비워 두므로 오래된 항목이 자연스럽게 빠짐
+// partitions 가 3 이면 추가된 항목은 최소 1 window 동안 유지됨 (window >= 토큰 TTL 로 설정)
+// 락 없이 AtomicLongArray 로 비트를 설정하므로 Virtual Thread 에서도 안전
+public class RotatingBloomFilter {
+    private static final int PARTITIONS = 3;
+
+    private final long windowMillis;
+    private final int bitsPerPartition;
+    private final int hashFunctions;
+    private final AtomicLongArray[] partitions = new AtomicLongArray[PARTITIONS];
+    private final AtomicLong[] insertions = new AtomicLong[PARTITIONS];
+    // 다음 구간을 비워 둔 마지막 세대
+    private final AtomicLong preparedGeneration = new AtomicLong(-1);
+
+    public RotatingBloomFilter(long windowMillis, long expectedInsertions, double falsePositiveRate) {
+        this.windowMillis = windowMillis;
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitsPerPartition = (int) Math.min(Math.max(bits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitsPerPartition / expectedInsertions * Math.log(2)));
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new AtomicLongArray((bitsPerPartition + Long.SIZE - 1) / Long.SIZE);
+            insertions[i] = new AtomicLong();
+        }
+    }
+
+    // digest 는 SHA-256 등 균등 분포된 16byte 이상의 값
+    public void add(byte[] digest, long nowMillis) {
+        long generation = rotate(nowMillis);
+        AtomicLongArray bits = partitions[(int) (generation % PARTITIONS)];
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(h1, h2, i);
+            long mask = 1L << index;
+            bits.getAndAccumulate(index >>> 6, mask, (current, m) -> current | m);
+        }
+        insertions[(int) (generation % PARTITIONS)].incrementAndGet();
+    }
+
+    // false 면 확실히 없음, true 면 "있을 수도 있음"
+    public boolean mightContain(byte[] digest, long nowMillis) {
+        rotate(nowMillis);
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+        for (AtomicLongArray bits : partitions) {
+            if (contains(bits, h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 현재 예상 오탐률 (구간별 (1 - e^(-kn/m))^k 를 합성)
+    public double expectedFalsePositiveRate() {
+        double miss = 1.0;
+        for (AtomicLong inserted : insertions) {
+            double p = Math.pow(1 - Math.exp(-(double) hashFunctions * inserted.get() / bitsPerPartition), hashFunctions);
+            miss *= 1 - p;
+        }
+        return 1 - miss;
+    }
+
+    public long memoryBytes() {
+        return (long) PARTITIONS * partitions[0].length() * Long.BYTES;
+    }
+
+    private boolean contains(AtomicLongArray bits, long h1, long h2) {
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(h1, h2, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch-Mitzenmacher double hashing
+    private int index(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, bitsPerPartition);
+    }
+
+    // 현재 세대를 계산하고, 다음 세대 구간을 한 번만 비움
+    // 다음 구간에는 이 시점에 아무도 쓰지 않으므로 비우는 동안 추가가 유실되지 않음
+    private long rotate(long nowMillis) {
+        long generation = nowMillis / windowMillis;
+        long prepared = preparedGeneration.get();
+        if (prepared < generation && preparedGeneration.compareAndSet(prepared, generation)) {
+            int next = (int) ((generation + 1) % PARTITIONS);
+            AtomicLongArray bits = partitions[next];
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, 0L);
+            }
+            insertions[next].set(0);
+        }
+        return generation;
+    }
+}
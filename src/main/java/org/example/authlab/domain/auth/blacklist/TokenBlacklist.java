@@ -0,0 +1,159 @@
+package org.example.authlab.domain.auth.blacklist;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.authlab.domain.auth.jwt.JwtClaims;
+import org.example.authlab.global.util.Digests;
+import org.example.authlab.global.util.RedisUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+// 로그아웃 블랙리스트 (로컬 Bloom Filter → Redis 순서로 확인)
+// Bloom Filter 가 "없음" 이라고 하면 Redis 를 조회하지 않음
+// 토큰 원문 대신 jti 의 16byte digest 를 만료 시각 버킷 단위 Set 에 저장
+// 노드 간 동기화: 등록 시 Pub/Sub 으로 전파, 기동 시 아직 살아있는 버킷을 읽어 복구
+// 이전 방식(토큰 원문 키, 토큰 전체 SHA-256 전파)으로 등록된 폐기는 legacy-fallback-ms 동안 함께 확인
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+    public static final String CHANNEL = "TOKEN_REVOKED";
+    private static final int DIGEST_LENGTH = 16;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RotatingBloomFilter bloomFilter;
+    private final long windowMillis;
+    // 이전 방식 키가 남아 있을 수 있는 시각 (기동 후 access 토큰 만료 시간 1회분, 0 이면 확인하지 않음)
+    private final long legacyUntil;
+
+    private final Timer bloomLookup;
+    private final Timer redisLookup;
+
+    // 복구 전까지는 Bloom Filter 를 신뢰하지 않고 항상 Redis 조회
+    private volatile boolean ready;
+
+    public TokenBlacklist(RedisUtil redisUtil,
+                          RedisMessageListenerContainer listenerContainer,
+                          MeterRegistry meterRegistry,
+                          @Value("${jwt.access.expiration}") long accessTokenExpiration,
+                          @Value("${auth.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${auth.blacklist.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+                          @Value("${auth.blacklist.legacy-fallback-ms:${jwt.access.expiration}}") long legacyFallbackMillis) {
+        this.redisUtil = redisUtil;
+        this.listenerContainer = listenerContainer;
+        this.windowMillis = accessTokenExpiration;
+        this.legacyUntil = legacyFallbackMillis > 0 ? System.currentTimeMillis() + legacyFallbackMillis : 0;
+        this.bloomFilter = new RotatingBloomFilter(accessTokenExpiration, expectedInsertions, falsePositiveRate);
+
+        meterRegistry.gauge("auth.blacklist.bloom.false.positive.rate", bloomFilter, RotatingBloomFilter::expectedFalsePositiveRate);
+        meterRegistry.gauge("auth.blacklist.bloom.memory.bytes", bloomFilter, RotatingBloomFilter::memoryBytes);
+        // Bloom Filter 에서 끝난 조회와 Redis 까지 간 조회의 지연 시간
+        this.bloomLookup = meterRegistry.timer("auth.blacklist.lookup", "source", "bloom");
+        this.redisLookup = meterRegistry.timer("auth.blacklist.lookup", "source", "redis");
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        replay();
+    }
+
+    // 블랙리스트 등록 (Redis 저장 + 전파를 파이프라인 1회 왕복으로)
+    public void revoke(String token, JwtClaims claims) {
+        byte[] digest = digest(token, claims);
+        bloomFilter.add(digest, System.currentTimeMillis());
+        redisUtil.pipelined(ops -> {
+            redisUtil.setBlackList(ops, digest, claims.expiration());
+            ops.convertAndSend(CHANNEL, HEX.formatHex(digest));
+        });
+    }
+
+    public boolean isRevoked(String token, JwtClaims claims) {
+        long start = System.nanoTime();
+        byte[] digest = digest(token, claims);
+        if (!mightContain(token, digest)) {
+            bloomLookup.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return false;
+        }
+        boolean revoked = redisUtil.isBlackListed(digest, claims.expiration(), legacyToken(token));
+        redisLookup.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return revoked;
+    }
+
+    // Bloom Filter 만 확인 (false 면 확실히 없음, 복구 전에는 항상 true)
+    public boolean mightContain(byte[] digest) {
+        return !ready || bloomFilter.mightContain(digest, System.currentTimeMillis());
+    }
+
+    // 이전 방식으로 등록됐을 수 있는 기간에는 토큰 원문 digest 도 확인
+    public boolean mightContain(String token, byte[] digest) {
+        if (mightContain(digest)) {
+            return true;
+        }
+        return legacyFallback() && bloomFilter.mightContain(legacyDigest(token), System.currentTimeMillis());
+    }
+
+    // 이전 방식 블랙리스트 키 (토큰 원문), 확인 기간이 지났으면 null
+    public String legacyToken(String token) {
+        return legacyFallback() ? token : null;
+    }
+
+    private boolean legacyFallback() {
+        return System.currentTimeMillis() < legacyUntil;
+    }
+
+    // Redis 저장은 호출한 쪽에서 처리 (reactive 프로필)
+    public void addLocal(byte[] digest) {
+        bloomFilter.add(digest, System.currentTimeMillis());
+    }
+
+    // 다른 노드(자기 자신 포함)에서 등록된 토큰
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addHex(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 아직 만료되지 않은 토큰이 들어있는 버킷만 읽어 Bloom Filter 복구
+    private void replay() {
+        try {
+            long now = System.currentTimeMillis();
+            redisUtil.getBlackListMembers(now, now + windowMillis)
+                    .forEach(digest -> bloomFilter.add(digest, now));
+            if (legacyFallback()) {
+                redisUtil.scanLegacyBlackList(token -> bloomFilter.add(legacyDigest(token), now));
+            }
+            ready = true;
+        } catch (Exception e) {
+            log.warn("블랙리스트 복구 실패, Redis 직접 조회로 동작합니다: {}", e.getMessage());
+        }
+    }
+
+    // jti 가 없는 이전 토큰은 토큰 원문으로 식별
+    public static byte[] digest(String token, JwtClaims claims) {
+        return Arrays.copyOf(Digests.sha256(claims.id() != null ? claims.id() : token), DIGEST_LENGTH);
+    }
+
+    private static byte[] legacyDigest(String token) {
+        return Arrays.copyOf(Digests.sha256(token), DIGEST_LENGTH);
+    }
+
+    // 이전 버전 노드는 토큰 원문의 SHA-256 전체(32byte)를 전파하므로 앞 16byte 만 사용
+    private void addHex(String hex) {
+        if (hex != null) {
+            bloomFilter.add(Arrays.copyOf(HEX.parseHex(hex), DIGEST_LENGTH), System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.authlab.domain.auth.blacklist;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.example.authlab.domain.auth.jwt.JwtClaims;
+import org.example.authlab.global.util.RedisUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 사용자별 토큰 세대 (access/refresh 토큰의 gen 클레임)
+// 세대를 1 올리면 이전 세대로 발급된 그 사용자의 모든 토큰이 무효 (토큰별 블랙리스트 기록 없이 Redis 쓰기 1회)
+// 요청마다 Redis 를 조회하지 않도록 현재 세대는 로컬 캐시에서 확인하고, 변경은 Pub/Sub 으로 모든 노드에 전파
+// 캐시 TTL 은 전파 메시지가 유실됐을 때 다시 Redis 를 읽기까지의 최대 시간
+@Component
+public class TokenGenerations implements MessageListener {
+    public static final String CHANNEL = "TOKEN_GENERATION";
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, Long> cache;
+
+    public TokenGenerations(RedisUtil redisUtil,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${auth.token-generation.cache.max-size:100000}") long maxSize,
+                            @Value("${auth.token-generation.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.redisUtil = redisUtil;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.token.generation");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 현재 세대 (로컬 캐시 미스일 때만 Redis 조회)
+    public long current(String username) {
+        return cache.get(username, redisUtil::getTokenGeneration);
+    }
+
+    // 논블로킹 조회 (reactive 프로필, 캐시 미스면 remote 결과를 캐싱)
+    public Mono<Long> current(String username, Supplier<Mono<Long>> remote) {
+        Long generation = cache.getIfPresent(username);
+        return generation != null
+                ? Mono.just(generation)
+                : remote.get().doOnNext(loaded -> update(username, loaded));
+    }
+
+    public Long getIfPresent(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    // 사용자의 모든 세션 폐기 (세대 증가 + 전파를 Redis 1회 왕복으로)
+    public long revokeAll(String username) {
+        long generation = redisUtil.incrementTokenGeneration(username, CHANNEL);
+        update(username, generation);
+        return generation;
+    }
+
+    // 세대는 증가만 하므로 늦게 도착한 메시지가 값을 되돌리지 않도록 큰 값 유지
+    public void update(String username, long generation) {
+        cache.asMap().merge(username, generation, Math::max);
+    }
+
+    // 발급 이후 세대가 올라간 토큰은 폐기된 것
+    public static boolean isStale(JwtClaims claims, long current) {
+        return claims.generation() < current;
+    }
+
+    // 다른 노드(자기 자신 포함)에서 올린 세대 ("<세대>:<사용자>")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator > 0) {
+            update(body.substring(separator + 1), Long.parseLong(body.substring(0, separator)));
+        }
+    }
+}
@@ -2,18 +2,32 @@ package org.example.authlab.domain.auth.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.auth.dto.request.IntrospectRequest;
 import org.example.authlab.domain.auth.dto.request.LoginRequest;
+import org.example.authlab.domain.auth.dto.request.RefreshRequest;
 import org.example.authlab.domain.auth.dto.request.SignupRequest;
 import org.example.authlab.domain.auth.dto.request.TotpActivationRequest;
 import org.example.authlab.domain.auth.dto.request.Verify2faRequest;
+import org.example.authlab.domain.auth.dto.response.IntrospectResponse;
 import org.example.authlab.domain.auth.dto.response.LoginResponse;
 import org.example.authlab.domain.auth.dto.response.SignupResponse;
+import org.example.authlab.domain.auth.dto.response.TotpProvisionResponse;
 import org.example.authlab.domain.auth.service.AuthService;
+import org.example.authlab.domain.auth.totp.QrFormat;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 @RestController
 @RequestMapping("/api/auth")
+@ConditionalOnWebApplication(type = SERVLET)
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthService authService;
@@ -24,6 +38,24 @@ public class AuthController {
         return authService.generateTotpSecret();
     }
 
+    // TOTP 등록 시작 (otpauth URI + QR 코드 경로)
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/totp/provision")
+    public TotpProvisionResponse provisionTotp(@AuthenticationPrincipal AuthUser user) {
+        return authService.provisionTotp(user.username());
+    }
+
+    // 시크릿이 담긴 이미지이므로 캐싱 금지
+    @GetMapping("/totp/provision/qr")
+    public ResponseEntity<byte[]> totpQrCode(@RequestParam(defaultValue = "png") String format,
+                                             @AuthenticationPrincipal AuthUser user) {
+        QrFormat qrFormat = QrFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(qrFormat.contentType()))
+                .cacheControl(CacheControl.noStore())
+                .body(authService.totpQrCode(user.username(), qrFormat));
+    }
+
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/signup")
     public SignupResponse signup(@RequestBody SignupRequest request) {
@@ -42,16 +74,36 @@ public class AuthController {
         return authService.verifySecondFactor(request.getPreAuthToken(), request.getCode());
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/refresh")
+    public LoginResponse refresh(@RequestBody @Valid RefreshRequest request) {
+        return authService.refresh(request.getRefreshToken());
+    }
+
+    // 다른 서비스용 토큰 일괄 검사 (결과는 요청 순서대로)
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/introspect")
+    public IntrospectResponse introspect(@RequestBody IntrospectRequest request) {
+        return authService.introspect(request.getTokens());
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/logout")
     public String logout(@RequestHeader("Authorization") String bearerToken) {
         return authService.logout(bearerToken);
     }
 
+    // 이 사용자의 모든 기기(세션)에서 로그아웃
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/logout/all")
+    public String logoutAll(@RequestHeader("Authorization") String bearerToken) {
+        return authService.logoutAll(bearerToken);
+    }
+
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/totp/activate")
     public String activateTotp(@RequestBody @Valid TotpActivationRequest request,
-                               @RequestHeader("Authorization") String bearerToken) {
-        return authService.activateTotp(bearerToken, request.getSecretKey(), request.getCode());
+                               @AuthenticationPrincipal AuthUser user) {
+        return authService.activateTotp(user.username(), request.getSecretKey(), request.getCode());
     }
 }
@@ -0,0 +1,26 @@
+package org.example.authlab.domain.auth.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.auth.jwt.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 리소스 서버가 토큰을 직접 검증할 수 있도록 공개키 배포 (ES256 모드에서만 키가 있음)
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing keyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                // 새 키는 이 시간 이상 게시된 뒤에 서명에 쓰이므로 캐시된 JWKS 로도 새 토큰을 검증할 수 있음
+                .cacheControl(CacheControl.maxAge(keyRing.publishLeadMs(), TimeUnit.MILLISECONDS).cachePublic())
+                .body(keyRing.jwks());
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.authlab.domain.auth.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.auth.dto.request.IntrospectRequest;
+import org.example.authlab.domain.auth.dto.request.LoginRequest;
+import org.example.authlab.domain.auth.dto.request.RefreshRequest;
+import org.example.authlab.domain.auth.dto.request.SignupRequest;
+import org.example.authlab.domain.auth.dto.request.TotpActivationRequest;
+import org.example.authlab.domain.auth.dto.request.Verify2faRequest;
+import org.example.authlab.domain.auth.dto.response.IntrospectResponse;
+import org.example.authlab.domain.auth.dto.response.LoginResponse;
+import org.example.authlab.domain.auth.dto.response.SignupResponse;
+import org.example.authlab.domain.auth.dto.response.TotpProvisionResponse;
+import org.example.authlab.domain.auth.service.ReactiveAuthService;
+import org.example.authlab.domain.auth.totp.QrFormat;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+// AuthController 와 같은 경로/요청/응답 (reactive 프로필)
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+    private final ReactiveAuthService authService;
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @GetMapping("/totp/setup")
+    public String setupTotp() {
+        return authService.generateTotpSecret();
+    }
+
+    // TOTP 등록 시작 (otpauth URI + QR 코드 경로)
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/totp/provision")
+    public Mono<TotpProvisionResponse> provisionTotp(@AuthenticationPrincipal AuthUser user) {
+        return authService.provisionTotp(user.username());
+    }
+
+    @GetMapping("/totp/provision/qr")
+    public Mono<ResponseEntity<byte[]>> totpQrCode(@RequestParam(defaultValue = "png") String format,
+                                                   @AuthenticationPrincipal AuthUser user) {
+        QrFormat qrFormat = QrFormat.from(format);
+        return authService.totpQrCode(user.username(), qrFormat)
+                .map(image -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(qrFormat.contentType()))
+                        .cacheControl(CacheControl.noStore())
+                        .body(image));
+    }
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/signup")
+    public Mono<SignupResponse> signup(@RequestBody SignupRequest request) {
+        return authService.signup(request);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/login")
+    public Mono<LoginResponse> login(@RequestBody LoginRequest request) {
+        return authService.login(request);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/login/2fa")
+    public Mono<LoginResponse> verifyTwoFactor(@RequestBody Verify2faRequest request) {
+        return authService.verifySecondFactor(request.getPreAuthToken(), request.getCode());
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/refresh")
+    public Mono<LoginResponse> refresh(@RequestBody @Valid RefreshRequest request) {
+        return authService.refresh(request.getRefreshToken());
+    }
+
+    // 다른 서비스용 토큰 일괄 검사 (결과는 요청 순서대로)
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/introspect")
+    public Mono<IntrospectResponse> introspect(@RequestBody IntrospectRequest request) {
+        return authService.introspect(request.getTokens());
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/logout")
+    public Mono<String> logout(@RequestHeader("Authorization") String bearerToken) {
+        return authService.logout(bearerToken);
+    }
+
+    // 이 사용자의 모든 기기(세션)에서 로그아웃
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/logout/all")
+    public Mono<String> logoutAll(@RequestHeader("Authorization") String bearerToken) {
+        return authService.logoutAll(bearerToken);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/totp/activate")
+    public Mono<String> activateTotp(@RequestBody @Valid TotpActivationRequest request,
+                                     @AuthenticationPrincipal AuthUser user) {
+        return authService.activateTotp(user.username(), request.getSecretKey(), request.getCode());
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.authlab.domain.auth.delivery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.authlab.global.util.ThreadFactories;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 인증 코드 비동기 발송 (요청 스레드는 큐에 넣고 바로 반환)
+// 큐 → 배치 발송 → 실패 시 지수 백오프 재시도 → 최대 횟수 초과 시 Dead Letter Queue
+@Slf4j
+@Service
+public class CodeDeliveryService {
+    private final CodeSender codeSender;
+    private final ThreadFactories threadFactories;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    private final BlockingQueue<CodeMessage> queue;
+    private final BlockingQueue<CodeMessage> deadLetters;
+
+    private final Timer deliveryLatency;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter dead;
+    private final Counter rejected;
+
+    private ExecutorService workerPool;
+    private ScheduledExecutorService retryScheduler;
+
+    public CodeDeliveryService(CodeSender codeSender,
+                               ThreadFactories threadFactories,
+                               MeterRegistry meterRegistry,
+                               @Value("${auth.delivery.workers:4}") int workers,
+                               @Value("${auth.delivery.queue-capacity:10000}") int queueCapacity,
+                               @Value("${auth.delivery.batch-size:50}") int batchSize,
+                               @Value("${auth.delivery.max-attempts:3}") int maxAttempts,
+                               @Value("${auth.delivery.backoff-ms:500}") long backoffMs,
+                               @Value("${auth.delivery.dead-letter-capacity:1000}") int deadLetterCapacity) {
+        this.codeSender = codeSender;
+        this.threadFactories = threadFactories;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.deadLetters = new ArrayBlockingQueue<>(deadLetterCapacity);
+
+        meterRegistry.gauge("auth.code.delivery.queue.depth", queue, BlockingQueue::size);
+        meterRegistry.gauge("auth.code.delivery.dead.letters", deadLetters, BlockingQueue::size);
+        this.deliveryLatency = Timer.builder("auth.code.delivery.latency")
+                .description("큐 적재부터 발송 완료까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.delivered = meterRegistry.counter("auth.code.delivery", "result", "delivered");
+        this.retried = meterRegistry.counter("auth.code.delivery", "result", "retried");
+        this.dead = meterRegistry.counter("auth.code.delivery", "result", "dead");
+        this.rejected = meterRegistry.counter("auth.code.delivery", "result", "rejected");
+    }
+
+    @PostConstruct
+    public void start() {
+        // Virtual Thread 모드에서는 SMTP 대기 중 carrier 스레드를 반납
+        workerPool = Executors.newFixedThreadPool(workers, threadFactories.create("code-delivery-"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(threadFactories.create("code-delivery-retry-"));
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::drainLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        retryScheduler.shutdownNow();
+        workerPool.shutdownNow();
+    }
+
+    // 발송 요청 적재 (큐가 가득 차면 false, 요청 스레드를 막지 않음)
+    public boolean enqueue(String email, String code) {
+        if (queue.offer(CodeMessage.of(email, code))) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    // 최종 실패한 발송 건 (운영자 확인 및 재처리용)
+    public List<CodeMessage> drainDeadLetters() {
+        List<CodeMessage> drained = new ArrayList<>();
+        deadLetters.drainTo(drained);
+        return drained;
+    }
+
+    private void drainLoop() {
+        List<CodeMessage> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<CodeMessage> batch) throws InterruptedException {
+        try {
+            codeSender.send(batch);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("인증 코드 발송 실패 (batch={}): {}", batch.size(), e.getMessage());
+            batch.forEach(this::retryOrDeadLetter);
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (CodeMessage message : batch) {
+            deliveryLatency.record(now - message.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+        delivered.increment(batch.size());
+    }
+
+    private void retryOrDeadLetter(CodeMessage message) {
+        CodeMessage next = message.nextAttempt();
+        if (next.attempt() >= maxAttempts) {
+            toDeadLetter(next);
+            return;
+        }
+        // 지수 백오프 (backoff, backoff*2, backoff*4 ...)
+        long delay = backoffMs << (next.attempt() - 1);
+        retried.increment();
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(next)) {
+                toDeadLetter(next);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void toDeadLetter(CodeMessage message) {
+        dead.increment();
+        // DLQ 도 가득 차면 가장 오래된 건을 버림
+        while (!deadLetters.offer(message)) {
+            deadLetters.poll();
+        }
+        log.error("인증 코드 발송 최종 실패 (attempt={}): {}", message.attempt(), message.maskedEmail());
+    }
+}
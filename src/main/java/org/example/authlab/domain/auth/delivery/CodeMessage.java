@@ -0,0 +1,22 @@
+package org.example.authlab.domain.auth.delivery;
+
+// 발송 대기 중인 인증 코드 (enqueuedAt: 지연 시간 측정용, attempt: 재시도 횟수)
+public record CodeMessage(String email, String code, long enqueuedAt, int attempt) {
+
+    public static CodeMessage of(String email, String code) {
+        return new CodeMessage(email, code, System.nanoTime(), 0);
+    }
+
+    public CodeMessage nextAttempt() {
+        return new CodeMessage(email, code, enqueuedAt, attempt + 1);
+    }
+
+    // 로그용 주소 (로컬 파트 첫 글자와 도메인만, 전체 주소는 DLQ 항목에만 남김)
+    public String maskedEmail() {
+        int at = email != null ? email.indexOf('@') : -1;
+        if (at <= 0) {
+            return "***";
+        }
+        return email.charAt(0) + "***" + email.substring(at);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.authlab.domain.auth.delivery;
+
+import java.util.List;
+
+// 인증 코드 발송 채널 (SMTP, SMS 등으로 교체 가능)
+public interface CodeSender {
+
+    // 배치 단위 발송, 실패 시 예외를 던지면 배치 전체가 재시도 대상이 됨
+    void send(List<CodeMessage> batch) throws Exception;
+}
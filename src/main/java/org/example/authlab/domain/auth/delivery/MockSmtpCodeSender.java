@@ -0,0 +1,23 @@
+package org.example.authlab.domain.auth.delivery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 외부 SMTP 서버를 흉내내는 Mock (세션 1회당 지연 발생)
+@Component
+public class MockSmtpCodeSender implements CodeSender {
+
+    @Value("${auth.delivery.mock-latency-ms:300}")
+    private long latencyMs;
+
+    @Override
+    public void send(List<CodeMessage> batch) throws InterruptedException {
+        // 외부 SMTP 서버 통신 지연 시뮬레이션 (배치당 1회)
+        Thread.sleep(latencyMs);
+        for (CodeMessage message : batch) {
+            System.out.println("[Email Send] To: " + message.email() + ", Code: " + message.code());
+        }
+    }
+}
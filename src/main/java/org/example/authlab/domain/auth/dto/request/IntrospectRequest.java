@@ -0,0 +1,12 @@
+package org.example.authlab.domain.auth.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class IntrospectRequest {
+    private List<String> tokens;
+}
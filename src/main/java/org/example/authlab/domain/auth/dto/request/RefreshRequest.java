@@ -0,0 +1,12 @@
+package org.example.authlab.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RefreshRequest {
+    @NotBlank
+    private String refreshToken;
+}
@@ -0,0 +1,13 @@
+package org.example.authlab.domain.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 요청한 토큰 순서대로 결과
+@Getter
+@AllArgsConstructor
+public class IntrospectResponse {
+    private List<TokenIntrospection> tokens;
+}
@@ -0,0 +1,26 @@
+package org.example.authlab.domain.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.authlab.domain.auth.jwt.JwtClaims;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+
+// 토큰 1개의 검사 결과 (RFC 7662 필드명, 비활성 토큰은 {"active":false} 만)
+// exp: 만료 시각 (epoch 초), mfa: 로그인 시 통과한 2차 인증 방식
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+    public static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null);
+
+    private boolean active;
+    private String sub;
+    private Long exp;
+    private TwoFactorType mfa;
+
+    public static TokenIntrospection active(JwtClaims claims) {
+        return new TokenIntrospection(true, claims.username(), claims.expiration() / 1000, claims.secondFactor());
+    }
+}
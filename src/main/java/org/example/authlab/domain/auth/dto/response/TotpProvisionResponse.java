@@ -0,0 +1,15 @@
+package org.example.authlab.domain.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TotpProvisionResponse {
+    private String otpauthUri;
+    private String secret;
+    // QR 코드 이미지 경로 (format=png|svg)
+    private String qrCodeUrl;
+    // 등록 유효 시간 (초)
+    private long expiresIn;
+}
@@ -0,0 +1,38 @@
+package org.example.authlab.domain.auth.introspect;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+// 토큰 일괄 검사를 호출할 수 있는 서비스 계정 (Authorization: Basic base64(client-id:client-secret))
+// client-secret 이 비어 있으면 모든 호출을 거절
+@Component
+public class IntrospectionClient {
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final byte[] credentials;
+
+    public IntrospectionClient(@Value("${auth.introspection.client-id:}") String clientId,
+                               @Value("${auth.introspection.client-secret:}") String clientSecret) {
+        this.credentials = clientId.isEmpty() || clientSecret.isEmpty()
+                ? null
+                : (clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public boolean matches(String authorization) {
+        if (credentials == null || authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return false;
+        }
+        byte[] presented;
+        try {
+            presented = Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // 일치하는 앞부분 길이가 응답 시간으로 드러나지 않도록 상수 시간 비교
+        return MessageDigest.isEqual(presented, credentials);
+    }
+}
@@ -0,0 +1,235 @@
+package org.example.authlab.domain.auth.introspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.example.authlab.domain.auth.blacklist.TokenBlacklist;
+import org.example.authlab.domain.auth.blacklist.TokenGenerations;
+import org.example.authlab.domain.auth.dto.response.IntrospectResponse;
+import org.example.authlab.domain.auth.dto.response.TokenIntrospection;
+import org.example.authlab.domain.auth.jwt.JwtClaims;
+import org.example.authlab.domain.auth.jwt.JwtTokenType;
+import org.example.authlab.domain.auth.jwt.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 일괄 검사 (게이트웨이 등 다른 서비스가 여러 토큰을 요청 1번으로 확인)
+// 판정 기준은 JwtAuthenticationFilter 와 같음 (유효한 access 토큰 + 블랙리스트 아님 + 현재 세대), 사용자 조회는 하지 않음
+// 서명 검증, Bloom Filter, 로컬 세대 캐시 확인까지만 하고, 남은 Redis 조회는 호출한 쪽에서 한 번에 처리
+// 토큰이 많으면 공용 ForkJoinPool 대신 전용 풀(코어 수, 대기열 제한)에서 나눠 처리하고, 대기열이 가득 차면 즉시 거절
+@Component
+public class TokenIntrospector {
+    private static final String OVERLOADED = "토큰 검사 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final JwtUtil jwtUtil;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenGenerations tokenGenerations;
+    private final int maxTokens;
+    private final int parallelThreshold;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public TokenIntrospector(JwtUtil jwtUtil,
+                             TokenBlacklist tokenBlacklist,
+                             TokenGenerations tokenGenerations,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.introspection.max-tokens:1000}") int maxTokens,
+                             // 이보다 적으면 순차 처리 (캐시된 토큰은 검증이 수백 ns 라 병렬화 비용이 더 큼)
+                             @Value("${auth.introspection.parallel-threshold:64}") int parallelThreshold,
+                             @Value("${auth.introspection.threads:0}") int threads,
+                             @Value("${auth.introspection.queue-capacity:64}") int queueCapacity) {
+        this.jwtUtil = jwtUtil;
+        this.tokenBlacklist = tokenBlacklist;
+        this.tokenGenerations = tokenGenerations;
+        this.maxTokens = maxTokens;
+        this.parallelThreshold = parallelThreshold;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // 서명 검증은 CPU 작업이므로 Virtual Thread 모드여도 Platform Thread 로 코어 수만큼만 실행
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("introspect-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.gauge("auth.introspection.queue.depth", executor, e -> e.getQueue().size());
+        this.rejected = meterRegistry.counter("auth.introspection.rejected");
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public Batch prepare(List<String> tokens) {
+        try {
+            return prepareAsync(tokens).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // 호출 스레드를 막지 않는 버전 (reactive 프로필), 토큰이 적으면 호출 스레드에서 바로 완료
+    public CompletableFuture<Batch> prepareAsync(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new IllegalArgumentException("검사할 토큰이 없습니다.");
+        }
+        if (tokens.size() > maxTokens) {
+            throw new IllegalArgumentException("토큰은 한 번에 최대 " + maxTokens + "개까지 검사할 수 있습니다.");
+        }
+
+        Checks checks = new Checks(tokens.size());
+        if (tokens.size() < parallelThreshold) {
+            check(tokens, checks, 0, tokens.size());
+            return CompletableFuture.completedFuture(checks.toBatch());
+        }
+
+        // 서명 검증, digest 계산은 CPU 연산이므로 연속 구간으로 나눠 전용 풀에서 처리
+        int chunks = Math.min(executor.getCorePoolSize(), (tokens.size() + parallelThreshold - 1) / parallelThreshold);
+        int chunkSize = (tokens.size() + chunks - 1) / chunks;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        try {
+            for (int i = 0; i < chunks; i++) {
+                int from = i * chunkSize;
+                int to = Math.min(tokens.size(), from + chunkSize);
+                futures[i] = CompletableFuture.runAsync(() -> check(tokens, checks, from, to), executor);
+            }
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new IllegalStateException(OVERLOADED));
+        }
+        return CompletableFuture.allOf(futures).thenApply(done -> checks.toBatch());
+    }
+
+    private void check(List<String> tokens, Checks checks, int from, int to) {
+        for (int i = from; i < to; i++) {
+            String token = tokens.get(i);
+            JwtClaims claims = verify(token);
+            Long generation = claims != null ? tokenGenerations.getIfPresent(claims.username()) : null;
+            if (generation != null && TokenGenerations.isStale(claims, generation)) {
+                claims = null;
+            }
+            checks.claims[i] = claims;
+            checks.unknownGenerations[i] = claims != null && generation == null;
+            if (claims != null) {
+                byte[] digest = TokenBlacklist.digest(token, claims);
+                // Bloom Filter 가 "없음" 이라고 하면 Redis 를 조회하지 않음
+                checks.suspects[i] = tokenBlacklist.mightContain(token, digest) ? digest : null;
+                checks.legacyTokens[i] = tokenBlacklist.legacyToken(token);
+            }
+        }
+    }
+
+    // refresh 토큰은 /api/auth/refresh 에서만 사용하므로 비활성
+    private JwtClaims verify(String token) {
+        JwtClaims claims = token != null ? jwtUtil.verify(token).orElse(null) : null;
+        return claims != null && claims.type() != JwtTokenType.REFRESH ? claims : null;
+    }
+
+    // 토큰별 로컬 확인 결과 (구간마다 다른 스레드가 채우고, 모든 구간이 끝난 뒤 Batch 로 변환)
+    private final class Checks {
+        private final JwtClaims[] claims;
+        private final byte[][] suspects;
+        private final String[] legacyTokens;
+        private final boolean[] unknownGenerations;
+
+        private Checks(int size) {
+            this.claims = new JwtClaims[size];
+            this.suspects = new byte[size][];
+            this.legacyTokens = new String[size];
+            this.unknownGenerations = new boolean[size];
+        }
+
+        private Batch toBatch() {
+            return new Batch(claims, suspects, legacyTokens, unknownGenerations);
+        }
+    }
+
+    // 서명 검증이 끝난 토큰 묶음 (Redis 로 확인할 블랙리스트 digest, 세대를 모르는 사용자 제공)
+    public class Batch {
+        private final JwtClaims[] claims;
+        private final List<Integer> lookupIndices = new ArrayList<>();
+        private final List<byte[]> digests = new ArrayList<>();
+        private final List<String> legacyTokens = new ArrayList<>();
+        private final long[] expirations;
+        private final List<String> usernames;
+
+        private Batch(JwtClaims[] claims, byte[][] suspects, String[] legacyTokens, boolean[] unknownGenerations) {
+            this.claims = claims;
+            LinkedHashSet<String> unknownUsers = new LinkedHashSet<>();
+            for (int i = 0; i < suspects.length; i++) {
+                if (suspects[i] != null) {
+                    lookupIndices.add(i);
+                    digests.add(suspects[i]);
+                    this.legacyTokens.add(legacyTokens[i]);
+                }
+                if (unknownGenerations[i]) {
+                    unknownUsers.add(claims[i].username());
+                }
+            }
+            this.expirations = new long[lookupIndices.size()];
+            for (int i = 0; i < expirations.length; i++) {
+                expirations[i] = claims[lookupIndices.get(i)].expiration();
+            }
+            this.usernames = List.copyOf(unknownUsers);
+        }
+
+        public boolean needsBlacklistLookup() {
+            return !digests.isEmpty();
+        }
+
+        public List<byte[]> digests() {
+            return digests;
+        }
+
+        public long[] expirations() {
+            return expirations;
+        }
+
+        // digests() 순서의 이전 방식 블랙리스트 키 (확인하지 않는 토큰은 null)
+        public List<String> legacyTokens() {
+            return legacyTokens;
+        }
+
+        public boolean needsGenerationLookup() {
+            return !usernames.isEmpty();
+        }
+
+        public List<String> usernames() {
+            return usernames;
+        }
+
+        // revoked: digests() 순서의 블랙리스트 조회 결과, generations: usernames() 순서의 세대 조회 결과
+        public IntrospectResponse complete(List<Boolean> revoked, List<Long> generations) {
+            for (int i = 0; i < revoked.size(); i++) {
+                if (revoked.get(i)) {
+                    claims[lookupIndices.get(i)] = null;
+                }
+            }
+            Map<String, Long> loaded = new HashMap<>();
+            for (int i = 0; i < generations.size(); i++) {
+                loaded.put(usernames.get(i), generations.get(i));
+                tokenGenerations.update(usernames.get(i), generations.get(i));
+            }
+
+            List<TokenIntrospection> results = new ArrayList<>(claims.length);
+            for (JwtClaims claim : claims) {
+                Long generation = claim != null ? loaded.get(claim.username()) : null;
+                boolean active = claim != null && (generation == null || !TokenGenerations.isStale(claim, generation));
+                results.add(active ? TokenIntrospection.active(claim) : TokenIntrospection.INACTIVE);
+            }
+            return new IntrospectResponse(results);
+        }
+    }
+}
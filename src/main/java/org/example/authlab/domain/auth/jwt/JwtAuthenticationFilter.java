@@ -5,12 +5,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.example.authlab.domain.user.entity.User;
+import org.example.authlab.domain.auth.blacklist.TokenBlacklist;
+import org.example.authlab.domain.auth.blacklist.TokenGenerations;
+import org.example.authlab.domain.auth.metrics.AuthMetrics;
+import org.example.authlab.domain.user.dto.AuthUser;
 import org.example.authlab.domain.user.service.UserService;
-import org.example.authlab.global.util.RedisUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,36 +20,92 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 @Component
+@ConditionalOnWebApplication(type = SERVLET)
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    // 인증 없이 허용하는 경로 (SecurityConfig, ReactiveSecurityConfig 의 permitAll 과 공유)
+    public static final String[] PUBLIC_PATHS = {
+            // 회원가입, 로그인 관련 API (토큰 일괄 검사는 서비스 계정 인증, SecurityConfig)
+            // TOTP 등록(provision, qr, activate)은 로그인한 사용자만
+            "/api/auth/signup", "/api/auth/login", "/api/auth/login/2fa", "/api/auth/refresh",
+            "/api/auth/logout", "/api/auth/logout/all", "/api/auth/totp/setup",
+            // 공개키 배포
+            "/.well-known/jwks.json",
+            // 헬스 체크, Prometheus 수집
+            "/actuator/health", "/actuator/prometheus"
+    };
+
+    // 상태가 없으므로 요청마다 만들지 않고 공유
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
     private final JwtUtil jwtUtil;
     private final UserService userService;
-    private final RedisUtil redisUtil;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenGenerations tokenGenerations;
+    private final AuthMetrics authMetrics;
+
+    // 공개 경로는 SecurityContext 를 쓰지 않으므로 토큰 검증, 블랙리스트, 사용자 조회를 모두 건너뜀
+    // (logout 은 Authorization 헤더를 직접 읽음)
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return isPublicPath(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    // "/**" 로 끝나면 하위 경로 전체, 나머지는 정확히 일치 (요청마다 패턴 파싱이나 할당 없음)
+    public static boolean isPublicPath(String path) {
+        for (String pattern : PUBLIC_PATHS) {
+            if (pattern.endsWith("/**")) {
+                int prefix = pattern.length() - 3;
+                if (path.regionMatches(0, pattern, 0, prefix) && (path.length() == prefix || path.charAt(prefix) == '/')) {
+                    return true;
+                }
+            } else if (pattern.equals(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        AuthUser user = authenticate(request);
+        authMetrics.recordFilter(user != null ? user.twoFactorType() : null, System.nanoTime() - start);
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 인증 성공 시 SecurityContext 에 등록한 사용자 반환
+    private AuthUser authenticate(HttpServletRequest request) {
         // 토큰 추출
         String token = resolveToken(request);
 
-        // 토큰 유효성 검사
-        if (token != null && jwtUtil.validateToken(token)) {
-            if(!redisUtil.isBlackListed(token)) {
-                // username 추출
-                String username = jwtUtil.getUsername(token);
-                // 계정 존재 여부 확인
-                User user = userService.findByUsername(username);
-                // 인증 객체 생성(권한은 현재 없으므로 빈 리스트 반환)
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        user, null, Collections.emptyList()
-                );
-                // 시큐리티 컨텍스트에 등록
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        // 토큰 유효성 검사 (서명 검증과 클레임 추출을 한 번에 수행)
+        // refresh 토큰은 /api/auth/refresh 에서만 사용
+        JwtClaims claims = token != null ? jwtUtil.verify(token).orElse(null) : null;
+        if (claims == null || claims.type() == JwtTokenType.REFRESH || tokenBlacklist.isRevoked(token, claims)) {
+            return null;
+        }
+        // 모든 세션 폐기 이후 발급 세대가 지난 토큰 (현재 세대는 로컬 캐시에서 확인)
+        if (TokenGenerations.isStale(claims, tokenGenerations.current(claims.username()))) {
+            return null;
         }
 
-        filterChain.doFilter(request, response);
+        // 계정 존재 여부 확인 (로컬 캐시 우선, DB 는 미스일 때만)
+        AuthUser user = userService.findAuthUser(claims.username());
+        if (user != null) {
+            // 인증 객체 생성(권한은 현재 없으므로 빈 리스트 반환)
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    user, null, Collections.emptyList()
+            );
+            // 시큐리티 컨텍스트에 등록
+            authentication.setDetails(DETAILS_SOURCE.buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+        return user;
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -0,0 +1,20 @@
+package org.example.authlab.domain.auth.jwt;
+
+import org.example.authlab.domain.user.entity.TwoFactorType;
+
+// 서명 검증이 끝난 토큰의 클레임 (불변 객체)
+// id: jti (블랙리스트 식별자, jti 도입 이전 토큰은 null)
+// family: refresh 토큰 계보 식별자 (access, refresh 토큰 모두 기록, fam 클레임 도입 이전 access 토큰은 null)
+// secondFactor: 로그인 시 통과한 2차 인증 방식 (mfa 클레임 도입 이전 토큰은 null)
+// generation: 발급 시점의 사용자 토큰 세대 (TokenGenerations, gen 클레임이 없으면 0)
+public record JwtClaims(String id, String username, JwtTokenType type, String family, TwoFactorType secondFactor,
+                        long generation, long issuedAt, long expiration) {
+
+    public long remainingTime() {
+        return expiration - System.currentTimeMillis();
+    }
+
+    public boolean isExpired() {
+        return remainingTime() <= 0;
+    }
+}
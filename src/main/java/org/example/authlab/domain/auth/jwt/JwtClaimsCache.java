@@ -0,0 +1,61 @@
+package org.example.authlab.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.example.authlab.global.util.Digests;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 서명 검증이 끝난 토큰을 exp 까지만 보관하는 캐시
+// 원본 토큰 대신 SHA-256 digest 를 키로 사용
+@Component
+public class JwtClaimsCache {
+    private final Cache<ByteBuffer, JwtClaims> cache;
+
+    public JwtClaimsCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    // 캐시에 없으면 loader 로 검증 후 저장 (검증 실패 예외는 그대로 전파되고 캐싱되지 않음)
+    public JwtClaims get(String token, Function<String, JwtClaims> loader) {
+        return cache.get(digest(token), key -> loader.apply(token));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(Digests.sha256(token));
+    }
+
+    // 토큰의 exp 시각에 맞춰 만료
+    private static class UntilTokenExpiry implements Expiry<ByteBuffer, JwtClaims> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JwtClaims claims, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(claims.remainingTime(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
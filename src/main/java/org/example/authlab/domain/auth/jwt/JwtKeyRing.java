@@ -0,0 +1,299 @@
+package org.example.authlab.domain.auth.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.authlab.global.util.RedisUtil;
+import org.example.authlab.global.util.ThreadFactories;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 비대칭 서명 키 (ES256)
+// 노드마다 자체 키 쌍을 만들고 주기적으로 교체, 개인키는 노드 밖으로 나가지 않음
+// 공개키만 Redis Hash(JWT_PUBLIC_KEYS) 에 kid 별로 올려 다른 노드의 검증과 JWKS 에 사용
+// 새 키는 예약 키(next)로 먼저 게시하고 publish-lead-ms(= JWKS 캐시 max-age) 가 지난 뒤에야 서명에 사용
+// (JWKS 를 캐싱한 리소스 서버도 새 kid 를 이미 알고 있음, 기동 직후에는 첫 키가 승격될 때까지 서명 불가)
+// 공개키는 게시부터 그 키로 서명한 토큰이 모두 만료될 때까지 (교체 주기 x 2 + refresh 만료) 유지
+@Slf4j
+@Component
+public class JwtKeyRing {
+    public static final String PUBLIC_KEYS = "JWT_PUBLIC_KEYS";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    // kid 미스 시 Redis 재조회 최소 간격 (존재하지 않는 kid 로 Redis 를 두드리는 요청 방지)
+    private static final long RELOAD_INTERVAL_MS = 1_000;
+
+    private final RedisUtil redisUtil;
+    private final ThreadFactories threadFactories;
+    private final SignatureAlgorithm algorithm;
+    private final long rotationMs;
+    private final long publishLeadMs;
+    private final long retentionMs;
+    private final long refreshMs;
+
+    private volatile SigningKey current;
+    // current 가 서명을 시작한 시각
+    private long currentSince;
+    // 게시했지만 아직 서명에 쓰지 않는 다음 키, 게시 시각 (Redis 게시 전이면 -1)
+    private SigningKey next;
+    private long nextPublishedAt = -1;
+    private volatile Map<String, PublicKey> verificationKeys = Map.of();
+    private volatile Map<String, Object> jwks = Map.of("keys", List.of());
+    private volatile long lastReload;
+
+    private ScheduledExecutorService scheduler;
+
+    public JwtKeyRing(RedisUtil redisUtil,
+                      ThreadFactories threadFactories,
+                      @Value("${jwt.signing.algorithm:HS512}") String algorithm,
+                      @Value("${jwt.signing.rotation-ms:86400000}") long rotationMs,
+                      @Value("${jwt.signing.publish-lead-ms:300000}") long publishLeadMs,
+                      @Value("${jwt.signing.refresh-ms:60000}") long refreshMs,
+                      @Value("${jwt.refresh.expiration}") long refreshTokenExpiration) {
+        this.redisUtil = redisUtil;
+        this.threadFactories = threadFactories;
+        this.algorithm = SignatureAlgorithm.forName(algorithm);
+        if (this.algorithm != SignatureAlgorithm.HS512 && this.algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("지원하지 않는 서명 알고리즘입니다: " + algorithm);
+        }
+        // 교체 주기가 더 짧으면 예약 키가 게시 기간을 채우기 전에 다음 교체가 돌아옴
+        if (rotationMs <= 0 || publishLeadMs < 0 || publishLeadMs > rotationMs) {
+            throw new IllegalArgumentException("jwt.signing.rotation-ms 는 0 보다 크고, publish-lead-ms 는 0 이상 rotation-ms 이하여야 합니다.");
+        }
+        this.rotationMs = rotationMs;
+        this.publishLeadMs = publishLeadMs;
+        this.refreshMs = refreshMs;
+        // 예약 키로 최대 교체 주기만큼 기다린 뒤 교체 주기 동안 서명 (벤치마크용 무기한 주기는 무기한 보관)
+        this.retentionMs = rotationMs >= Long.MAX_VALUE / 4 ? Long.MAX_VALUE : rotationMs * 2 + refreshTokenExpiration;
+    }
+
+    // Redis 없이 키 1개로 바로 서명하는 키 링 (벤치마크, 테스트용)
+    public static JwtKeyRing local(SignatureAlgorithm algorithm) {
+        JwtKeyRing keyRing = new JwtKeyRing(null, null, algorithm.getValue(), Long.MAX_VALUE, 0, Long.MAX_VALUE, 0);
+        if (keyRing.isAsymmetric()) {
+            keyRing.rotate();
+        }
+        return keyRing;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isAsymmetric()) {
+            return;
+        }
+        safeRotate();
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactories.create("jwt-key-ring-"));
+        // 교체 시점은 키별 시각으로 판단하고 refresh-ms 마다 확인 (예약 키 게시 재시도, 첫 키 승격 포함)
+        scheduler.scheduleWithFixedDelay(this::safeRotate, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        // 다른 노드가 교체한 공개키를 JWKS 에 반영
+        scheduler.scheduleWithFixedDelay(this::safeReload, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isAsymmetric() {
+        return algorithm == SignatureAlgorithm.ES256;
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    // 서명에 쓸 키 (기동 직후 첫 키가 승격되기 전에는 null)
+    public SigningKey current() {
+        return current;
+    }
+
+    // JWKS 캐시 max-age 의 상한 (새 키는 이 시간 이상 게시된 뒤 서명에 사용)
+    public long publishLeadMs() {
+        return publishLeadMs;
+    }
+
+    // kid 에 해당하는 공개키 (로컬에 없으면 Redis 재조회, 없으면 null)
+    public PublicKey publicKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null && redisUtil != null && System.currentTimeMillis() - lastReload >= RELOAD_INTERVAL_MS) {
+            safeReload();
+            key = verificationKeys.get(kid);
+        }
+        return key;
+    }
+
+    // JWKS 응답 (키가 바뀔 때만 다시 만듦)
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    // 예약 키를 준비, 게시하고, 교체할 때가 됐고 게시 후 publish-lead-ms 가 지났으면 서명 키로 승격
+    // Redis 게시에 실패한 예약 키는 서명에 쓰지 않고 다음 확인 때 다시 게시 (그동안 기존 키로 계속 서명)
+    public synchronized void rotate() {
+        long now = System.currentTimeMillis();
+        if (next == null) {
+            next = generate(now);
+            nextPublishedAt = -1;
+            addVerificationKey(next);
+        }
+        if (nextPublishedAt < 0) {
+            publishNext(now);
+        }
+        // 키 생성과 게시에 걸린 시간만큼 게시 기간을 앞당기지 않도록 게시 이후 시각으로 판단
+        now = System.currentTimeMillis();
+
+        boolean due = current == null || now - currentSince >= rotationMs;
+        if (due && now - nextPublishedAt >= publishLeadMs) {
+            current = next;
+            currentSince = now;
+            next = null;
+            log.info("JWT 서명 키 교체: kid={}", current.kid());
+            // 다음 교체에 쓸 예약 키를 바로 게시
+            rotate();
+        }
+    }
+
+    private void publishNext(long now) {
+        if (redisUtil != null) {
+            redisUtil.hashPut(PUBLIC_KEYS, next.kid(), (now + retentionMs) + ":" + Base64.getEncoder().encodeToString(next.publicKey().getEncoded()));
+        }
+        nextPublishedAt = System.currentTimeMillis();
+        if (redisUtil != null) {
+            reload();
+        }
+    }
+
+    private void addVerificationKey(SigningKey key) {
+        Map<String, PublicKey> keys = new HashMap<>(verificationKeys);
+        keys.put(key.kid(), key.publicKey());
+        publish(keys);
+    }
+
+    // Redis 에서 유효한 공개키 전체를 읽고 만료된 키는 정리
+    private synchronized void reload() {
+        long now = System.currentTimeMillis();
+        lastReload = now;
+        Map<String, PublicKey> keys = new HashMap<>();
+        List<String> expired = new ArrayList<>();
+        redisUtil.hashEntries(PUBLIC_KEYS).forEach((kid, value) -> {
+            int separator = value.indexOf(':');
+            if (Long.parseLong(value.substring(0, separator)) < now) {
+                expired.add(kid);
+            } else {
+                keys.put(kid, decode(value.substring(separator + 1)));
+            }
+        });
+        if (!expired.isEmpty()) {
+            redisUtil.hashDelete(PUBLIC_KEYS, expired.toArray(String[]::new));
+        }
+        // 이 노드의 서명 키와 예약 키는 Redis 조회 결과와 상관없이 항상 검증 가능해야 함
+        for (SigningKey own : new SigningKey[]{current, next}) {
+            if (own != null) {
+                keys.put(own.kid(), own.publicKey());
+            }
+        }
+        publish(keys);
+    }
+
+    private void publish(Map<String, PublicKey> keys) {
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        keys.forEach((kid, key) -> jwkList.add(toJwk(kid, (ECPublicKey) key)));
+        verificationKeys = Map.copyOf(keys);
+        jwks = Map.of("keys", List.copyOf(jwkList));
+    }
+
+    private void safeRotate() {
+        try {
+            rotate();
+        } catch (Exception e) {
+            log.warn("JWT 예약 키 게시 실패, 기존 키를 계속 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    private void safeReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("JWT 공개키 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private static SigningKey generate(long now) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair pair = generator.generateKeyPair();
+            byte[] id = new byte[8];
+            new SecureRandom().nextBytes(id);
+            return new SigningKey(BASE64_URL.encodeToString(id), pair.getPrivate(), pair.getPublic(), now);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PublicKey decode(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // RFC 7517 / 7518 EC 공개키 표현
+    private static Map<String, Object> toJwk(String kid, ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+        jwk.put("x", BASE64_URL.encodeToString(coordinate(key.getW().getAffineX())));
+        jwk.put("y", BASE64_URL.encodeToString(coordinate(key.getW().getAffineY())));
+        return jwk;
+    }
+
+    // 부호 바이트를 제거하고 32byte 로 맞춤
+    private static byte[] coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == 32) {
+            return bytes;
+        }
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return fixed;
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey, PublicKey publicKey, long createdAt) {
+        @Override
+        public String toString() {
+            return "SigningKey[kid=" + kid + "]";
+        }
+    }
+}
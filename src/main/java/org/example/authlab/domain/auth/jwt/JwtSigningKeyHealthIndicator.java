@@ -0,0 +1,26 @@
+package org.example.authlab.domain.auth.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// ES256 모드에서 첫 서명 키가 게시 기간(publish-lead-ms)을 채우기 전까지는 OUT_OF_SERVICE
+// (로드 밸런서가 /actuator/health 로 확인하면 서명할 수 없는 새 노드로 로그인 요청을 보내지 않음)
+@Component
+@RequiredArgsConstructor
+public class JwtSigningKeyHealthIndicator implements HealthIndicator {
+    private final JwtKeyRing keyRing;
+
+    @Override
+    public Health health() {
+        if (!keyRing.isAsymmetric()) {
+            return Health.up().withDetail("algorithm", keyRing.algorithm().getValue()).build();
+        }
+        JwtKeyRing.SigningKey current = keyRing.current();
+        if (current == null) {
+            return Health.outOfService().withDetail("reason", "서명 키 게시 대기 중").build();
+        }
+        return Health.up().withDetail("algorithm", keyRing.algorithm().getValue()).withDetail("kid", current.kid()).build();
+    }
+}
@@ -1,19 +1,33 @@
 package org.example.authlab.domain.auth.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.user.entity.TwoFactorType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
+    private final JwtClaimsCache claimsCache;
+    private final JwtKeyRing keyRing;
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -24,70 +38,170 @@ public class JwtUtil {
     @Value("${jwt.refresh.expiration}")
     private long refreshTokenExpiration;
 
+    // ES256 전환 후 HS512 토큰을 받아 주는 마감 시각 (ISO-8601, 비어 있으면 HS512 토큰 거절)
+    @Value("${jwt.signing.legacy-hs512-until:}")
+    private String legacyHs512Until;
+
     private Key key;
+    private Instant legacyCutoff;
+    // 불변 객체이므로 스레드 간 공유 가능
+    private JwtParser parser;
 
-    @PostConstruct // Key 생성 1회만 수행하여 반복되는 연산 비용 제거
+    @PostConstruct // Key, Parser 생성 1회만 수행하여 반복되는 연산 비용 제거
     public void init() {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.legacyCutoff = legacyHs512Until == null || legacyHs512Until.isBlank() ? null : Instant.parse(legacyHs512Until.trim());
+        // HS512 토큰은 공유 시크릿, ES256 토큰은 헤더의 kid 로 공개키 선택
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                if (SignatureAlgorithm.HS512.getValue().equals(header.getAlgorithm())) {
+                    if (keyRing.isAsymmetric() && !acceptsLegacy(claims)) {
+                        throw new JwtException("ES256 모드에서는 HS512 토큰을 받지 않습니다.");
+                    }
+                    return key;
+                }
+                Key publicKey = keyRing.publicKey(header.getKeyId());
+                if (publicKey == null) {
+                    throw new JwtException("알 수 없는 서명 키입니다: " + header.getKeyId());
+                }
+                return publicKey;
+            }
+        }).build();
+    }
+
+    // 시크릿을 아는 쪽은 exp, iat 를 마음대로 정할 수 있으므로 마감은 현재 시각 기준으로 판단
+    // (마감 전에도 마감 이후 발급으로 표시된 토큰은 거절, 마감은 전환 시각 + refresh 만료로 설정)
+    private boolean acceptsLegacy(Claims claims) {
+        return legacyCutoff != null
+                && Instant.now().isBefore(legacyCutoff)
+                && claims.getIssuedAt() != null
+                && claims.getIssuedAt().toInstant().isBefore(legacyCutoff);
     }
 
-    // access 토큰 생성
-    public String createAccessToken(String username) {
+    // access 토큰 생성 (family: 함께 발급한 refresh 토큰 계보, 로그아웃 시 계보도 폐기)
+    // secondFactor: 로그인 시 통과한 2차 인증 방식, generation: 사용자의 현재 토큰 세대
+    public String createAccessToken(String username, String family, TwoFactorType secondFactor, long generation) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .claim("type", JwtTokenType.ACCESS)
+                .claim("mfa", secondFactor)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+                .setExpiration(expiryDate);
+        if (family != null) {
+            builder.claim("fam", family);
+        }
+        withGeneration(builder, generation);
+
+        return sign(builder);
+    }
+
+    // refresh 토큰 생성 (family: 최초 로그인부터 이어지는 계보, tokenId: 계보 안에서 현재 토큰)
+    // 재발급한 access 토큰도 같은 2차 인증 방식을 유지하도록 refresh 토큰에 함께 기록
+    public String createRefreshToken(String username, String family, String tokenId, TwoFactorType secondFactor, long generation) {
+        return createRefreshToken(username, family, tokenId, secondFactor, generation, System.currentTimeMillis() + refreshTokenExpiration);
     }
 
-    // refresh 토큰 생성
-    public String createRefreshToken(String username) {
+    // 회전으로 재발급하는 refresh 토큰은 로그인 때 정한 만료 시각(expiration)을 그대로 유지
+    public String createRefreshToken(String username, String family, String tokenId, TwoFactorType secondFactor, long generation,
+                                     long expiration) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
+        Date expiryDate = new Date(expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(tokenId)
                 .setSubject(username)
                 .claim("type", JwtTokenType.REFRESH)
+                .claim("fam", family)
+                .claim("mfa", secondFactor)
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+                .setExpiration(expiryDate);
+        withGeneration(builder, generation);
+
+        return sign(builder);
     }
 
-    // 토큰 검증
-    public boolean validateToken(String token) {
+    // 세대를 올린 적 없는 사용자(0)는 클레임 생략
+    private static void withGeneration(JwtBuilder builder, long generation) {
+        if (generation > 0) {
+            builder.claim("gen", generation);
+        }
+    }
+
+    // 설정된 알고리즘으로 서명 (ES256 은 현재 키의 kid 를 헤더에 기록)
+    private String sign(JwtBuilder builder) {
+        if (keyRing.isAsymmetric()) {
+            JwtKeyRing.SigningKey signingKey = keyRing.current();
+            if (signingKey == null) {
+                throw new IllegalStateException("JWT 서명 키를 게시하는 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            return builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                    .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256)
+                    .compact();
+        }
+        return builder.signWith(key, SignatureAlgorithm.HS512).compact();
+    }
+
+    // 토큰 검증 + 클레임 추출 (서명 검증은 토큰당 1회, 이후는 캐시 조회)
+    public JwtClaims parseClaims(String token) {
+        return claimsCache.get(token, this::verifySignature);
+    }
+
+    // 검증 실패 시 빈 값 반환
+    public Optional<JwtClaims> verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(parseClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    // 토큰 검증
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     // 로그아웃을 위한 시간 계산
     public long getRemainingTime(String token) {
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        long now = new Date().getTime();
-        return expiration.getTime() - now;
+        return parseClaims(token).remainingTime();
+    }
+
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
     }
 
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).username();
+    }
+
+    JwtClaims verifySignature(String token) {
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+        Claims body = jws.getBody();
+        if (body.getExpiration() == null) {
+            throw new JwtException("만료 시간이 없는 토큰입니다.");
+        }
+        long expiration = body.getExpiration().getTime();
+        // 마감 전에 받아 준 HS512 토큰도 마감 이후에는 무효 (검증 캐시에도 마감까지만 남음)
+        if (keyRing.isAsymmetric() && SignatureAlgorithm.HS512.getValue().equals(jws.getHeader().getAlgorithm())) {
+            expiration = Math.min(expiration, legacyCutoff.toEpochMilli());
+        }
+        String type = body.get("type", String.class);
+        String secondFactor = body.get("mfa", String.class);
+        Number generation = body.get("gen", Number.class);
+        return new JwtClaims(
+                body.getId(),
+                body.getSubject(),
+                type != null ? JwtTokenType.valueOf(type) : null,
+                body.get("fam", String.class),
+                secondFactor != null ? TwoFactorType.valueOf(secondFactor) : null,
+                generation != null ? generation.longValue() : 0L,
+                body.getIssuedAt() != null ? body.getIssuedAt().getTime() : 0L,
+                expiration
+        );
     }
 }
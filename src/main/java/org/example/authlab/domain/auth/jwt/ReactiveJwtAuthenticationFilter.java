@@ -0,0 +1,82 @@
+package org.example.authlab.domain.auth.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.auth.blacklist.TokenBlacklist;
+import org.example.authlab.domain.auth.blacklist.TokenGenerations;
+import org.example.authlab.domain.auth.metrics.AuthMetrics;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.example.authlab.domain.user.service.ReactiveUserService;
+import org.example.authlab.global.util.ReactiveRedisUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Collections;
+
+// JwtAuthenticationFilter 의 WebFilter 버전 (reactive 프로필)
+// 전역 WebFilter 로 등록되지 않도록 Bean 이 아니라 ReactiveSecurityConfig 에서 보안 체인에만 추가
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+    private final JwtUtil jwtUtil;
+    private final ReactiveUserService userService;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenGenerations tokenGenerations;
+    private final ReactiveRedisUtil redisUtil;
+    private final AuthMetrics authMetrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // 공개 경로는 토큰 처리 없이 통과
+        if (JwtAuthenticationFilter.isPublicPath(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.nanoTime();
+        return authenticate(exchange.getRequest())
+                .doOnSuccess(user -> authMetrics.recordFilter(user != null ? user.twoFactorType() : null, System.nanoTime() - start))
+                // 인증 객체 생성(권한은 현재 없으므로 빈 리스트) 후 구독 컨텍스트에 등록
+                .map(user -> ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList())))
+                .defaultIfEmpty(Context.empty())
+                .flatMap(context -> chain.filter(exchange).contextWrite(context));
+    }
+
+    private Mono<AuthUser> authenticate(ServerHttpRequest request) {
+        String token = resolveToken(request);
+
+        // 서명 검증은 CPU 연산 (검증된 토큰은 JwtClaimsCache 에서 바로 반환)
+        // refresh 토큰은 /api/auth/refresh 에서만 사용
+        JwtClaims claims = token != null ? jwtUtil.verify(token).orElse(null) : null;
+        if (claims == null || claims.type() == JwtTokenType.REFRESH) {
+            return Mono.empty();
+        }
+
+        // Bloom Filter 가 "없음" 이라고 하면 Redis 를 조회하지 않음
+        byte[] digest = TokenBlacklist.digest(token, claims);
+        Mono<Boolean> revoked = tokenBlacklist.mightContain(token, digest)
+                ? redisUtil.isBlackListed(digest, claims.expiration(), tokenBlacklist.legacyToken(token))
+                : Mono.just(false);
+
+        // 발급 세대 확인 (로컬 캐시 미스일 때만 Redis 조회)
+        Mono<Boolean> stale = tokenGenerations.current(claims.username(), () -> redisUtil.getTokenGeneration(claims.username()))
+                .map(current -> TokenGenerations.isStale(claims, current));
+
+        // 계정 존재 여부 확인 (로컬 캐시 우선, DB 는 미스일 때만)
+        return revoked.flatMap(isRevoked -> isRevoked ? Mono.just(true) : stale)
+                .flatMap(rejected -> rejected ? Mono.empty() : userService.findAuthUser(claims.username()));
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
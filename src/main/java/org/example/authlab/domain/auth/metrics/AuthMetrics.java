@@ -0,0 +1,60 @@
+package org.example.authlab.domain.auth.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 인증 단계별 지연 시간 기록
+// auth.operation{operation, outcome, two.factor.type} : 전체 처리 시간
+// auth.stage{operation, stage, two.factor.type}       : 구간별 처리 시간 (같은 구간이 여러 번이면 합산)
+// auth.filter{two.factor.type}                        : JwtAuthenticationFilter 자체 처리 시간 (이후 체인 제외)
+@Component
+@RequiredArgsConstructor
+public class AuthMetrics {
+    static final String UNKNOWN = "UNKNOWN";
+    static final String ANONYMOUS = "ANONYMOUS";
+
+    private final MeterRegistry meterRegistry;
+    // 필터는 모든 요청에서 실행되므로 Timer 를 매번 빌더로 조회하지 않고 태그별로 보관
+    private final Map<String, Timer> filterTimers = new ConcurrentHashMap<>();
+
+    public AuthTrace trace(String operation) {
+        return new AuthTrace(this, operation);
+    }
+
+    // 인증되지 않은 요청은 ANONYMOUS
+    public void recordFilter(TwoFactorType twoFactorType, long nanos) {
+        String type = twoFactorType != null ? twoFactorType.name() : ANONYMOUS;
+        Timer timer = filterTimers.get(type);
+        if (timer == null) {
+            timer = filterTimers.computeIfAbsent(type, tag -> Timer.builder("auth.filter")
+                    .tag("two.factor.type", tag)
+                    .register(meterRegistry));
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordOperation(String operation, String outcome, String twoFactorType, long nanos) {
+        Timer.builder("auth.operation")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("two.factor.type", twoFactorType)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordStage(String operation, AuthStage stage, String twoFactorType, long nanos) {
+        Timer.builder("auth.stage")
+                .tag("operation", operation)
+                .tag("stage", stage.tag())
+                .tag("two.factor.type", twoFactorType)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.authlab.domain.auth.metrics;
+
+// 인증 처리 구간 (auth.stage 타이머의 stage 태그)
+public enum AuthStage {
+    USER_LOOKUP("user_lookup"),
+    PASSWORD_CHECK("password_check"),
+    REDIS("redis"),
+    CODE_DELIVERY("code_delivery"),
+    TOTP_VERIFY("totp_verify"),
+    JWT_SIGN("jwt_sign"),
+    JWT_PARSE("jwt_parse");
+
+    private final String tag;
+
+    AuthStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.authlab.domain.auth.metrics;
+
+import org.example.authlab.domain.user.entity.TwoFactorType;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+// 한 번의 인증 처리(login, verify_2fa 등)에 대한 구간 측정
+// 2FA 타입은 사용자 조회 이후에 알 수 있으므로 구간 시간을 모아 두었다가 close() 시점에 태그를 붙여 기록
+public class AuthTrace implements AutoCloseable {
+    private final AuthMetrics metrics;
+    private final String operation;
+    private final long startedAt = System.nanoTime();
+    private final long[] stageNanos = new long[AuthStage.values().length];
+
+    private String twoFactorType = AuthMetrics.UNKNOWN;
+    private boolean success;
+
+    AuthTrace(AuthMetrics metrics, String operation) {
+        this.metrics = metrics;
+        this.operation = operation;
+        Arrays.fill(stageNanos, -1);
+    }
+
+    public <T> T stage(AuthStage stage, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            add(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void stage(AuthStage stage, Runnable work) {
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            add(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void type(TwoFactorType type) {
+        this.twoFactorType = type != null ? type.name() : TwoFactorType.NONE.name();
+    }
+
+    public <T> T success(T result) {
+        this.success = true;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        metrics.recordOperation(operation, success ? "success" : "failure", twoFactorType, System.nanoTime() - startedAt);
+        AuthStage[] stages = AuthStage.values();
+        for (int i = 0; i < stages.length; i++) {
+            if (stageNanos[i] >= 0) {
+                metrics.recordStage(operation, stages[i], twoFactorType, stageNanos[i]);
+            }
+        }
+    }
+
+    private void add(AuthStage stage, long nanos) {
+        int index = stage.ordinal();
+        stageNanos[index] = stageNanos[index] < 0 ? nanos : stageNanos[index] + nanos;
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.authlab.domain.auth.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.authlab.domain.user.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 비밀번호 해시 전용 실행기
+// 해시는 CPU 코어 수만큼의 전용 스레드에서만 수행하고, 대기열이 가득 차면 즉시 거절(load shedding)
+// 크리덴셜 스터핑 폭주가 와도 해시가 모든 코어와 요청 스레드를 점유하지 않도록 함
+@Slf4j
+@Service
+public class PasswordHashingService {
+    private static final String OVERLOADED = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserService userService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final Timer waitTimer;
+    private final Timer hashTimer;
+    private final Counter rejected;
+    private final Counter rehashed;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  UserService userService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.password.threads:0}") int threads,
+                                  @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                                  @Value("${auth.password.timeout-ms:2000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.userService = userService;
+        this.timeoutMs = timeoutMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // 해시는 CPU 작업이므로 Virtual Thread 모드여도 Platform Thread 로 코어 수만큼만 실행
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.gauge("auth.password.hash.queue.depth", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+        this.waitTimer = Timer.builder("auth.password.hash.wait")
+                .description("해시 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.hashTimer = meterRegistry.timer("auth.password.hash");
+        this.rejected = meterRegistry.counter("auth.password.hash.rejected");
+        this.rehashed = meterRegistry.counter("auth.password.rehashed");
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 호출 스레드를 막지 않는 버전 (reactive 프로필)
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return submitAsync(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submitAsync(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 로그인 성공 후 알고리즘/파라미터가 바뀐 해시면 백그라운드에서 재해시하여 저장
+    // 대기열에 여유가 없으면 다음 로그인 때 다시 시도
+    public void upgradeIfNeeded(String username, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                userService.updatePassword(username, passwordEncoder.encode(rawPassword));
+                rehashed.increment();
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("재해시 건너뜀 (대기열 포화): {}", username);
+        }
+    }
+
+    private <T> CompletableFuture<T> submitAsync(Supplier<T> work) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(work);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new IllegalStateException(OVERLOADED));
+        }
+
+        return future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).exceptionallyCompose(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                rejected.increment();
+                cause = new IllegalStateException(OVERLOADED);
+            }
+            return CompletableFuture.failedFuture(cause);
+        });
+    }
+
+    private <T> T submit(Callable<T> work) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new IllegalStateException(OVERLOADED);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new IllegalStateException(OVERLOADED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(OVERLOADED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
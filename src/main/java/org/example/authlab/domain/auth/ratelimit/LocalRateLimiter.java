@@ -0,0 +1,39 @@
+package org.example.authlab.domain.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 노드 로컬 GCRA (Redis 와 같은 규칙)
+// 한 노드에서 이미 한도를 넘은 키는 전체 합산으로도 한도를 넘으므로 Redis 를 조회하지 않고 거절할 수 있음
+// 키마다 다음 허용 시각(TAT) 하나만 AtomicLong 으로 보관하고 CAS 로 갱신 (락 없음)
+public class LocalRateLimiter {
+    private final Cache<String, AtomicLong> states;
+
+    public LocalRateLimiter(long maxKeys, long maxPeriodMillis) {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(maxPeriodMillis))
+                .build();
+    }
+
+    public boolean tryAcquire(String key, RateLimitRule rule, long nowMillis) {
+        AtomicLong state = states.get(key, k -> new AtomicLong(nowMillis));
+        while (true) {
+            long tat = state.get();
+            long start = Math.max(tat, nowMillis);
+            if (start - nowMillis > rule.toleranceMillis()) {
+                return false;
+            }
+            if (state.compareAndSet(tat, start + rule.intervalMillis())) {
+                return true;
+            }
+        }
+    }
+
+    public long size() {
+        return states.estimatedSize();
+    }
+}
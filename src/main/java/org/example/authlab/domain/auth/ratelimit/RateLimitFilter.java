@@ -0,0 +1,183 @@
+package org.example.authlab.domain.auth.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+// 로그인, 2FA 요청 제한 (JwtAuthenticationFilter 앞에서 실행)
+// 로그인: IP + username, 2FA: IP + preAuthToken
+// IP 는 remoteAddr 기준 (프록시 뒤라면 server.forward-headers-strategy 설정 필요)
+@Component
+@ConditionalOnWebApplication(type = SERVLET)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String LOGIN = "/api/auth/login";
+    private static final String TWO_FACTOR = "/api/auth/login/2fa";
+    // 로그인 요청 본문 최대 크기 (초과 시 413)
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${auth.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = path(request);
+        return !LOGIN.equals(path) && !TWO_FACTOR.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        boolean login = LOGIN.equals(path(request));
+        JsonNode json = parse(body);
+        List<RateLimiter.Limit> limits = new ArrayList<>(2);
+        limits.add(rateLimiter.ip(request.getRemoteAddr()));
+        if (login) {
+            String username = text(json, "username");
+            if (username != null) {
+                limits.add(rateLimiter.username(username.toLowerCase(Locale.ROOT)));
+            }
+        } else {
+            String preAuthToken = text(json, "preAuthToken");
+            if (preAuthToken != null) {
+                limits.add(rateLimiter.preAuth(preAuthToken));
+            }
+        }
+
+        RateLimitRule rejected = rateLimiter.acquire(login ? "login" : "login_2fa", limits);
+        if (rejected != null) {
+            reject(response, rejected);
+            return;
+        }
+
+        // 읽은 본문을 컨트롤러가 다시 읽을 수 있도록 전달
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private void reject(HttpServletResponse response, RateLimitRule rule) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, rule.intervalMillis() / 1000)));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return body.length > 0 ? objectMapper.readTree(body) : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 IP 제한만 적용하고 컨트롤러에서 거절
+            return null;
+        }
+    }
+
+    private static String text(JsonNode json, String field) {
+        JsonNode value = json != null ? json.get(field) : null;
+        return value != null && value.isTextual() && !value.asText().isBlank() ? value.asText() : null;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 메모리에 있으므로 바로 읽을 수 있음을 알리고, 남은 데이터가 없으면 완료까지 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.authlab.domain.auth.ratelimit;
+
+// period 동안 capacity 회 허용 (GCRA: 요청마다 interval 만큼 다음 허용 시각을 미루고, burst 는 capacity 까지)
+public record RateLimitRule(String scope, int capacity, long periodMillis) {
+
+    public RateLimitRule {
+        if (capacity < 1 || periodMillis < capacity) {
+            throw new IllegalArgumentException("잘못된 요청 제한 설정입니다: " + scope);
+        }
+    }
+
+    public long intervalMillis() {
+        return periodMillis / capacity;
+    }
+
+    // 다음 허용 시각이 현재보다 이만큼 앞서 있어도 허용 (= capacity - 1 회 연속 요청)
+    public long toleranceMillis() {
+        return periodMillis - intervalMillis();
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.authlab.domain.auth.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.authlab.global.util.RedisUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 요청 제한 (로컬 사전 확인 → Redis GCRA 1회 왕복)
+// 여러 키(IP, 사용자 등)를 한 번에 확인하고 모두 허용될 때만 소비
+// Redis 장애 시에는 로컬 제한만 적용 (인증 자체를 막지 않음)
+@Slf4j
+@Component
+public class RateLimiter {
+    private final RedisUtil redisUtil;
+    private final MeterRegistry meterRegistry;
+    private final LocalRateLimiter localLimiter;
+
+    private final RateLimitRule ipRule;
+    private final RateLimitRule usernameRule;
+    private final RateLimitRule preAuthRule;
+
+    public RateLimiter(RedisUtil redisUtil,
+                       MeterRegistry meterRegistry,
+                       @Value("${auth.rate-limit.ip.capacity:30}") int ipCapacity,
+                       @Value("${auth.rate-limit.ip.period-ms:60000}") long ipPeriod,
+                       @Value("${auth.rate-limit.username.capacity:5}") int usernameCapacity,
+                       @Value("${auth.rate-limit.username.period-ms:60000}") long usernamePeriod,
+                       @Value("${auth.rate-limit.pre-auth.capacity:5}") int preAuthCapacity,
+                       @Value("${auth.rate-limit.pre-auth.period-ms:300000}") long preAuthPeriod,
+                       @Value("${auth.rate-limit.local-max-keys:100000}") long localMaxKeys) {
+        this.redisUtil = redisUtil;
+        this.meterRegistry = meterRegistry;
+        this.ipRule = new RateLimitRule("ip", ipCapacity, ipPeriod);
+        this.usernameRule = new RateLimitRule("username", usernameCapacity, usernamePeriod);
+        this.preAuthRule = new RateLimitRule("pre_auth", preAuthCapacity, preAuthPeriod);
+        this.localLimiter = new LocalRateLimiter(localMaxKeys, Math.max(ipPeriod, Math.max(usernamePeriod, preAuthPeriod)));
+        meterRegistry.gauge("auth.ratelimit.local.keys", localLimiter, LocalRateLimiter::size);
+    }
+
+    public Limit ip(String address) {
+        return new Limit(ipRule, address);
+    }
+
+    public Limit username(String username) {
+        return new Limit(usernameRule, username);
+    }
+
+    public Limit preAuth(String preAuthToken) {
+        return new Limit(preAuthRule, preAuthToken);
+    }
+
+    // 허용이면 null, 거절이면 거절한 규칙
+    public RateLimitRule acquire(String endpoint, List<Limit> limits) {
+        RateLimitRule rejected = acquireLocal(endpoint, limits);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        int rejectedIndex;
+        try {
+            rejectedIndex = redisUtil.acquireRateLimit(keys(endpoint, limits), intervals(limits), tolerances(limits));
+        } catch (Exception e) {
+            redisFailed(endpoint, e);
+            return null;
+        }
+        return rejectedByRedis(endpoint, limits, rejectedIndex);
+    }
+
+    // 아래는 ReactiveRateLimitFilter 와 공유하는 단계 (같은 로컬 상태, 키, 메트릭)
+    RateLimitRule acquireLocal(String endpoint, List<Limit> limits) {
+        long now = System.currentTimeMillis();
+        for (Limit limit : limits) {
+            if (!localLimiter.tryAcquire(key(endpoint, limit), limit.rule(), now)) {
+                return rejected(endpoint, limit.rule(), "local");
+            }
+        }
+        return null;
+    }
+
+    // rejectedIndex: ACQUIRE_RATE_LIMIT 결과 (0 이면 허용, 아니면 거절한 키의 1부터 시작하는 순번)
+    RateLimitRule rejectedByRedis(String endpoint, List<Limit> limits, int rejectedIndex) {
+        return rejectedIndex > 0 ? rejected(endpoint, limits.get(rejectedIndex - 1).rule(), "redis") : null;
+    }
+
+    void redisFailed(String endpoint, Throwable e) {
+        meterRegistry.counter("auth.ratelimit.errors", "endpoint", endpoint).increment();
+        log.warn("요청 제한 Redis 조회 실패, 로컬 제한만 적용합니다: {}", e.getMessage());
+    }
+
+    static List<String> keys(String endpoint, List<Limit> limits) {
+        return limits.stream().map(limit -> key(endpoint, limit)).toList();
+    }
+
+    static long[] intervals(List<Limit> limits) {
+        return limits.stream().mapToLong(limit -> limit.rule().intervalMillis()).toArray();
+    }
+
+    static long[] tolerances(List<Limit> limits) {
+        return limits.stream().mapToLong(limit -> limit.rule().toleranceMillis()).toArray();
+    }
+
+    private RateLimitRule rejected(String endpoint, RateLimitRule rule, String source) {
+        meterRegistry.counter("auth.ratelimit.rejected",
+                "endpoint", endpoint, "scope", rule.scope(), "source", source).increment();
+        return rule;
+    }
+
+    private static String key(String endpoint, Limit limit) {
+        return "RATE:" + endpoint + ":" + limit.rule().scope() + ":" + limit.id();
+    }
+
+    public record Limit(RateLimitRule rule, String id) {
+    }
+}
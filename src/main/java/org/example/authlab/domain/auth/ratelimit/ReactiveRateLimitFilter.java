@@ -0,0 +1,155 @@
+package org.example.authlab.domain.auth.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.global.util.ReactiveRedisUtil;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+// RateLimitFilter 의 WebFilter 버전 (reactive 프로필, 같은 경로와 키 규칙)
+// 로컬 사전 확인과 메트릭은 RateLimiter 를 공유하고, Redis 는 ReactiveRedisUtil 로 같은 스크립트를 실행
+// 전역 WebFilter 로 등록되지 않도록 Bean 이 아니라 ReactiveSecurityConfig 에서 보안 체인에만 추가
+@RequiredArgsConstructor
+public class ReactiveRateLimitFilter implements WebFilter {
+    private static final String LOGIN = "/api/auth/login";
+    private static final String TWO_FACTOR = "/api/auth/login/2fa";
+    // 로그인 요청 본문 최대 크기 (초과 시 413)
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+    private static final byte[] REJECTED_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.".getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimiter rateLimiter;
+    private final ReactiveRedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+        if (request.getMethod() != HttpMethod.POST || (!LOGIN.equals(path) && !TWO_FACTOR.equals(path))) {
+            return chain.filter(exchange);
+        }
+
+        boolean login = LOGIN.equals(path);
+        return DataBufferUtils.join(request.getBody(), MAX_BODY_BYTES)
+                .map(ReactiveRateLimitFilter::toBytes)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> acquire(login ? "login" : "login_2fa", limits(login, request, parse(body)))
+                        .flatMap(rejected -> rejected.isPresent()
+                                ? reject(exchange.getResponse(), rejected.get())
+                                // 읽은 본문을 컨트롤러가 다시 읽을 수 있도록 전달
+                                : chain.filter(exchange.mutate().request(new CachedBodyRequest(request, body)).build())))
+                .onErrorResume(DataBufferLimitException.class, e -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+                    return exchange.getResponse().setComplete();
+                });
+    }
+
+    private List<RateLimiter.Limit> limits(boolean login, ServerHttpRequest request, JsonNode json) {
+        List<RateLimiter.Limit> limits = new ArrayList<>(2);
+        limits.add(rateLimiter.ip(remoteAddress(request)));
+        if (login) {
+            String username = text(json, "username");
+            if (username != null) {
+                limits.add(rateLimiter.username(username.toLowerCase(Locale.ROOT)));
+            }
+        } else {
+            String preAuthToken = text(json, "preAuthToken");
+            if (preAuthToken != null) {
+                limits.add(rateLimiter.preAuth(preAuthToken));
+            }
+        }
+        return limits;
+    }
+
+    // 허용이면 빈 Optional, 거절이면 거절한 규칙 (Redis 장애 시에는 로컬 제한만 적용)
+    private Mono<Optional<RateLimitRule>> acquire(String endpoint, List<RateLimiter.Limit> limits) {
+        RateLimitRule rejected = rateLimiter.acquireLocal(endpoint, limits);
+        if (rejected != null) {
+            return Mono.just(Optional.of(rejected));
+        }
+        return redisUtil.acquireRateLimit(RateLimiter.keys(endpoint, limits), RateLimiter.intervals(limits), RateLimiter.tolerances(limits))
+                .onErrorResume(e -> {
+                    rateLimiter.redisFailed(endpoint, e);
+                    return Mono.just(0);
+                })
+                .map(rejectedIndex -> Optional.ofNullable(rateLimiter.rejectedByRedis(endpoint, limits, rejectedIndex)));
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, RateLimitRule rule) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, rule.intervalMillis() / 1000)));
+        response.getHeaders().setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(REJECTED_MESSAGE)));
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return body.length > 0 ? objectMapper.readTree(body) : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 IP 제한만 적용하고 컨트롤러에서 거절
+            return null;
+        }
+    }
+
+    private static String text(JsonNode json, String field) {
+        JsonNode value = json != null ? json.get(field) : null;
+        return value != null && value.isTextual() && !value.asText().isBlank() ? value.asText() : null;
+    }
+
+    // RateLimitFilter 의 remoteAddr 와 같은 값 (프록시 뒤라면 server.forward-headers-strategy 설정 필요)
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return "unknown";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static class CachedBodyRequest extends ServerHttpRequestDecorator {
+        private final byte[] body;
+
+        CachedBodyRequest(ServerHttpRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        // 구독할 때마다 같은 배열을 감싼 새 버퍼
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> body.length > 0 ? Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)) : Flux.empty());
+        }
+    }
+}
@@ -1,36 +1,75 @@
 package org.example.authlab.domain.auth.service;
 
-import com.warrenstrange.googleauth.GoogleAuthenticator;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.binary.Base32;
+import org.example.authlab.domain.auth.blacklist.TokenBlacklist;
+import org.example.authlab.domain.auth.blacklist.TokenGenerations;
+import org.example.authlab.domain.auth.delivery.CodeDeliveryService;
 import org.example.authlab.domain.auth.dto.request.LoginRequest;
 import org.example.authlab.domain.auth.dto.request.SignupRequest;
+import org.example.authlab.domain.auth.dto.response.IntrospectResponse;
 import org.example.authlab.domain.auth.dto.response.LoginResponse;
 import org.example.authlab.domain.auth.dto.response.SignupResponse;
+import org.example.authlab.domain.auth.dto.response.TotpProvisionResponse;
+import org.example.authlab.domain.auth.introspect.TokenIntrospector;
+import org.example.authlab.domain.auth.jwt.JwtClaims;
+import org.example.authlab.domain.auth.jwt.JwtTokenType;
 import org.example.authlab.domain.auth.jwt.JwtUtil;
+import org.example.authlab.domain.auth.metrics.AuthMetrics;
+import org.example.authlab.domain.auth.metrics.AuthTrace;
+import org.example.authlab.domain.auth.password.PasswordHashingService;
+import org.example.authlab.domain.auth.totp.QrFormat;
+import org.example.authlab.domain.auth.totp.TotpProvisioning;
+import org.example.authlab.domain.auth.totp.TotpVerifier;
+import org.example.authlab.domain.user.dto.UserCredential;
 import org.example.authlab.domain.user.entity.TwoFactorType;
 import org.example.authlab.domain.user.entity.User;
 import org.example.authlab.domain.user.service.UserService;
 import org.example.authlab.global.util.RedisUtil;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.example.authlab.global.util.SecureRandomPool;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import static org.example.authlab.domain.auth.metrics.AuthStage.CODE_DELIVERY;
+import static org.example.authlab.domain.auth.metrics.AuthStage.JWT_PARSE;
+import static org.example.authlab.domain.auth.metrics.AuthStage.JWT_SIGN;
+import static org.example.authlab.domain.auth.metrics.AuthStage.PASSWORD_CHECK;
+import static org.example.authlab.domain.auth.metrics.AuthStage.REDIS;
+import static org.example.authlab.domain.auth.metrics.AuthStage.TOTP_VERIFY;
+import static org.example.authlab.domain.auth.metrics.AuthStage.USER_LOOKUP;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    // 비밀번호 해시 (전용 스레드 풀)
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final RedisUtil redisUtil;
-
+    private final CodeDeliveryService codeDeliveryService;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenGenerations tokenGenerations;
+    private final TokenIntrospector tokenIntrospector;
+    private final AuthMetrics authMetrics;
     // CSPRNG 난수 생성
-    private final SecureRandom secureRandom = new SecureRandom();
-    // Google OTP 검증
-    private final GoogleAuthenticator gAuth = new GoogleAuthenticator();
+    private final SecureRandomPool secureRandom;
+    // TOTP 검증 (시크릿별 키 캐시)
+    private final TotpVerifier totpVerifier;
+    // TOTP 등록 (otpauth URI, QR 코드)
+    private final TotpProvisioning totpProvisioning;
+
+    // 2차 인증 세션 (이메일 코드 세션은 코드 유효 시간과 함께 만료)
+    @Value("${auth.pre-auth.ttl-seconds:300}")
+    private long preAuthTtlSeconds;
+    @Value("${auth.pre-auth.code-ttl-seconds:180}")
+    private long codeTtlSeconds;
+    @Value("${auth.pre-auth.max-attempts:5}")
+    private int maxAttempts;
 
     @Transactional(rollbackFor = Exception.class)
     public SignupResponse signup(SignupRequest request) {
@@ -38,7 +77,7 @@ public class AuthService {
             throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         User user = userService.save(
                 User.builder()
@@ -49,111 +88,220 @@ public class AuthService {
         return new SignupResponse(true, "success", user.getId());
     }
 
-    @Transactional(readOnly = true)
+    // 크리덴셜 캐시 적중 시 DB 를 거치지 않으므로 트랜잭션 없이 실행
     public LoginResponse login(LoginRequest request) {
-        User user = userService.findByUsername(request.getUsername());
-
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
-        }
+        try (AuthTrace trace = authMetrics.trace("login")) {
+            UserCredential user = trace.stage(USER_LOOKUP, () -> userService.findCredential(request.getUsername()));
+            if (user == null) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+            }
+            trace.type(user.twoFactorType());
 
-        // 2FA가 필요한지 확인
-        if (user.getTwoFactorType() != null) {
-            String preAuthToken = UUID.randomUUID().toString();
-            redisUtil.set("PRE_AUTH:" + preAuthToken, user.getUsername(), 300, TimeUnit.SECONDS);
+            if (!trace.stage(PASSWORD_CHECK, () -> passwordHashingService.matches(request.getPassword(), user.password()))) {
+                throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+            }
+            passwordHashingService.upgradeIfNeeded(user.username(), request.getPassword(), user.password());
+
+            // 2FA가 필요한지 확인
+            if (user.twoFactorType() != null) {
+                String preAuthToken = UUID.randomUUID().toString();
+
+                if (TwoFactorType.CSPRNG.equals(user.twoFactorType())) {
+                    // 난수 생성
+                    String code = String.valueOf(100000 + secureRandom.nextInt(900000));
+
+                    // 세션 Hash 1개에 코드 digest 까지 저장 (로그인마다 별도 세션이므로 다른 로그인의 코드를 덮어쓰지 않음)
+                    trace.stage(REDIS, () -> redisUtil.setPreAuthSession(preAuthToken, user.username(), code,
+                            TimeUnit.SECONDS.toMillis(codeTtlSeconds)));
+
+                    // 이메일 발송 (큐에 적재만 하고 발송은 별도 스레드에서 처리)
+                    if (!trace.stage(CODE_DELIVERY, () -> codeDeliveryService.enqueue(user.email(), code))) {
+                        throw new IllegalStateException("인증 코드 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                    }
+                } else {
+                    trace.stage(REDIS, () -> redisUtil.setPreAuthSession(preAuthToken, user.username(), null,
+                            TimeUnit.SECONDS.toMillis(preAuthTtlSeconds)));
+                }
+
+                return trace.success(LoginResponse.builder()
+                        .requiresTwoFactor(true)
+                        .preAuthToken(preAuthToken)
+                        .message("2단계 인증(OTP)이 필요합니다.")
+                        .build());
+            }
 
-            if (TwoFactorType.CSPRNG.equals(user.getTwoFactorType())) {
-                // 난수 생성
-                String code = String.valueOf(100000 + secureRandom.nextInt(900000));
+            return trace.success(issueTokens(trace, user.username(), TwoFactorType.NONE));
+        }
+    }
 
-                // 코드 Redis 저장
-                redisUtil.set("CSPRNG_CODE:" + user.getUsername(), code, 180, TimeUnit.SECONDS);
+    public String logout(String bearerToken) {
+        try (AuthTrace trace = authMetrics.trace("logout")) {
+            if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+                String accessToken = bearerToken.substring(7);
+
+                JwtClaims claims = trace.stage(JWT_PARSE, () -> jwtUtil.parseClaims(accessToken));
+
+                // 토큰 시간이 남았으면 redis 블랙리스트에 등록하고, 같은 로그인에서 발급한 refresh 토큰 계보도 폐기
+                if (!claims.isExpired()) {
+                    trace.stage(REDIS, () -> tokenBlacklist.revoke(accessToken, claims));
+                    if (claims.family() != null) {
+                        trace.stage(REDIS, () -> redisUtil.deleteRefreshFamily(claims.family()));
+                    }
+                    return trace.success("로그아웃 되었습니다.");
+                }
+            }
+            return trace.success("이미 로그아웃 상태이거나 토큰이 유효하지 않습니다.");
+        }
+    }
 
-                // 이메일 발송
-                sendEmailMock(user.getEmail(), code);
+    // 모든 기기에서 로그아웃 (토큰 세대를 올려 이 사용자의 기존 access/refresh 토큰을 한 번에 폐기)
+    public String logoutAll(String bearerToken) {
+        try (AuthTrace trace = authMetrics.trace("logout_all")) {
+            String accessToken = bearerToken != null && bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : null;
+            JwtClaims claims = accessToken != null
+                    ? trace.stage(JWT_PARSE, () -> jwtUtil.verify(accessToken).orElse(null))
+                    : null;
+            if (claims == null || claims.type() == JwtTokenType.REFRESH
+                    || trace.stage(REDIS, () -> tokenBlacklist.isRevoked(accessToken, claims))
+                    || TokenGenerations.isStale(claims, tokenGenerations.current(claims.username()))) {
+                throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
             }
 
-            return LoginResponse.builder()
-                    .requiresTwoFactor(true)
-                    .preAuthToken(preAuthToken)
-                    .message("2단계 인증(OTP)이 필요합니다.")
-                    .build();
+            trace.stage(REDIS, () -> tokenGenerations.revokeAll(claims.username()));
+            return trace.success("모든 기기에서 로그아웃 되었습니다.");
         }
-
-        return issueTokens(user.getUsername());
     }
 
-    public String logout(String bearerToken) {
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            String accessToken = bearerToken.substring(7);
+    // 토큰 일괄 검사 (서명 검증은 로컬에서, 블랙리스트는 Bloom Filter 를 통과한 토큰만 Redis 파이프라인 1회 왕복)
+    public IntrospectResponse introspect(List<String> tokens) {
+        try (AuthTrace trace = authMetrics.trace("introspect")) {
+            TokenIntrospector.Batch batch = trace.stage(JWT_PARSE, () -> tokenIntrospector.prepare(tokens));
+            List<Boolean> revoked = batch.needsBlacklistLookup()
+                    ? trace.stage(REDIS, () -> redisUtil.areBlackListed(batch.digests(), batch.expirations(), batch.legacyTokens()))
+                    : List.of();
+            // 로컬 캐시에 세대가 없는 사용자만 MGET 1회로 조회
+            List<Long> generations = batch.needsGenerationLookup()
+                    ? trace.stage(REDIS, () -> redisUtil.getTokenGenerations(batch.usernames()))
+                    : List.of();
+            return trace.success(batch.complete(revoked, generations));
+        }
+    }
 
-            // 토큰 남은 시간
-            long remainingTime = jwtUtil.getRemainingTime(accessToken);
+    // refresh 토큰 회전 (비밀번호, 2FA 검증 없이 Redis 1회 왕복으로 재발급)
+    // 이미 교체된 refresh 토큰이 다시 들어오면 탈취로 보고 계보 전체를 폐기
+    public LoginResponse refresh(String refreshToken) {
+        try (AuthTrace trace = authMetrics.trace("refresh")) {
+            JwtClaims claims = refreshToken != null
+                    ? trace.stage(JWT_PARSE, () -> jwtUtil.verify(refreshToken).orElse(null))
+                    : null;
+            if (claims == null || claims.type() != JwtTokenType.REFRESH || claims.family() == null || claims.id() == null) {
+                throw new IllegalArgumentException("유효하지 않은 refresh 토큰입니다.");
+            }
+            // 모든 세션 폐기 이전에 발급된 계보는 재발급 불가
+            if (TokenGenerations.isStale(claims, tokenGenerations.current(claims.username()))) {
+                throw new IllegalArgumentException("refresh 토큰이 만료되었습니다. 다시 로그인해주세요.");
+            }
 
-            // 토큰 시간이 남았으면 redis 블랙리스트에 등록
-            if (remainingTime > 0) {
-                redisUtil.setBlackList(accessToken, remainingTime);
-                return "로그아웃 되었습니다.";
+            String nextTokenId = UUID.randomUUID().toString();
+            long result = trace.stage(REDIS, () -> redisUtil.rotateRefreshFamily(claims.family(), claims.id(), nextTokenId));
+            if (result < 0) {
+                throw new IllegalArgumentException("이미 사용된 refresh 토큰입니다. 다시 로그인해주세요.");
             }
+            if (result == 0) {
+                throw new IllegalArgumentException("refresh 토큰이 만료되었습니다. 다시 로그인해주세요.");
+            }
+
+            String accessToken = trace.stage(JWT_SIGN, () -> jwtUtil.createAccessToken(
+                    claims.username(), claims.family(), claims.secondFactor(), claims.generation()));
+            String nextRefreshToken = trace.stage(JWT_SIGN, () -> jwtUtil.createRefreshToken(
+                    claims.username(), claims.family(), nextTokenId, claims.secondFactor(), claims.generation(), claims.expiration()));
+
+            return trace.success(LoginResponse.builder()
+                    .requiresTwoFactor(false)
+                    .accessToken(accessToken)
+                    .refreshToken(nextRefreshToken)
+                    .message("토큰 재발급 성공")
+                    .build());
         }
-        return "이미 로그아웃 상태이거나 토큰이 유효하지 않습니다.";
     }
 
+    // 이메일 코드는 세션 조회와 검증이 Redis 1회 왕복, TOTP 는 세션 조회 + 결과 반영 2회 왕복
+    // 실패할 때마다 세션의 실패 횟수가 늘고 max-attempts 에 도달하면 세션이 삭제됨
     @Transactional(readOnly = true)
     public LoginResponse verifySecondFactor(String preAuthToken, String code) {
-        String username = redisUtil.get("PRE_AUTH:" + preAuthToken);
-        if (username == null) {
-            throw new IllegalArgumentException("인증 세션이 만료되었습니다.");
-        }
-
-        User user = userService.findByUsername(username);
-
-        verifyCodeByType(user, code.trim());
+        try (AuthTrace trace = authMetrics.trace("verify_2fa")) {
+            String trimmed = code.trim();
+            RedisUtil.PreAuthCheck check = trace.stage(REDIS, () -> redisUtil.verifyPreAuth(preAuthToken, trimmed, maxAttempts));
+            if (check.status() == 0) {
+                throw new IllegalArgumentException("인증 세션이 만료되었습니다.");
+            }
+            if (check.status() == 1) {
+                trace.type(TwoFactorType.CSPRNG);
+                return trace.success(issueTokens(trace, check.username(), TwoFactorType.CSPRNG));
+            }
+            if (check.status() < 0) {
+                trace.type(TwoFactorType.CSPRNG);
+                throw new IllegalArgumentException("이메일 인증 코드가 일치하지 않습니다.");
+            }
 
-        redisUtil.delete("PRE_AUTH:" + preAuthToken);
+            User user = trace.stage(USER_LOOKUP, () -> userService.findByUsername(check.username()));
+            trace.type(user.getTwoFactorType());
+            if (!TwoFactorType.TOTP.equals(user.getTwoFactorType())) {
+                throw new IllegalArgumentException("지원하지 않는 인증 방식입니다.");
+            }
 
-        return issueTokens(username);
-    }
+            // 불일치도 세션에 실패로 기록해야 하므로 예외 대신 -1 로 넘김
+            int verificationCode = parseCode(trimmed);
+            long step = trace.stage(TOTP_VERIFY, () -> totpVerifier.verify(user.getTotpSecret(), verificationCode));
+            long result = trace.stage(REDIS, () -> redisUtil.completePreAuthTotp(
+                    preAuthToken, user.getUsername(), step, totpVerifier.replayTtlMillis(), maxAttempts));
+            if (result == 0) {
+                throw new IllegalArgumentException("인증 세션이 만료되었습니다.");
+            }
+            if (result == -2) {
+                throw new IllegalArgumentException("이미 사용된 인증 코드입니다.");
+            }
+            if (result < 0) {
+                throw new IllegalArgumentException("인증 코드가 올바르지 않습니다. 다시 시도해주세요.");
+            }
 
-    private void verifyCodeByType(User user, String code) {
-        if (TwoFactorType.CSPRNG.equals(user.getTwoFactorType())) {
-            verifyEmailCode(user.getUsername(), code);
-        } else if (TwoFactorType.TOTP.equals(user.getTwoFactorType())) {
-            verifyTotpCode(user.getTotpSecret(), code);
-        } else {
-            throw new IllegalArgumentException("지원하지 않는 인증 방식입니다.");
+            return trace.success(issueTokens(trace, user.getUsername(), TwoFactorType.TOTP));
         }
     }
 
-    private void verifyTotpCode(String secretKey, String code) {
-        int verificationCode;
+    private int parseCode(String code) {
         try {
-            verificationCode = Integer.parseInt(code);
+            return Integer.parseInt(code);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("인증 코드는 숫자여야 합니다.");
         }
+    }
 
-        boolean isCodeValid = gAuth.authorize(secretKey, verificationCode);
+    // 일치한 time step 반환
+    private long verifyTotpCode(String secretKey, String code) {
+        long step = totpVerifier.verify(secretKey, parseCode(code));
 
-        if (!isCodeValid) {
+        if (step < 0) {
             throw new IllegalArgumentException("인증 코드가 올바르지 않습니다. 다시 시도해주세요.");
         }
+        return step;
     }
 
-    private void verifyEmailCode(String username, String code) {
-        String storedCode = redisUtil.get("CSPRNG_CODE:" + username);
-
-        if (storedCode == null || !storedCode.equals(code)) {
-            throw new IllegalArgumentException("이메일 인증 코드가 일치하지 않습니다.");
+    // 사용자별 마지막으로 사용한 time step 보다 이전이거나 같은 코드는 거부 (허용 구간 내 재사용 방지)
+    private void markTotpUsed(String username, long step) {
+        if (!redisUtil.setIfGreater("TOTP_STEP:" + username, step, totpVerifier.replayTtlMillis())) {
+            throw new IllegalArgumentException("이미 사용된 인증 코드입니다.");
         }
-        redisUtil.delete("CSPRNG_CODE:" + username);
-
     }
 
-    // 토큰 발급 로직
-    private LoginResponse issueTokens(String username) {
-        String accessToken = jwtUtil.createAccessToken(username);
-        String refreshToken = jwtUtil.createRefreshToken(username);
+    // 토큰 발급 로직 (로그인마다 새 refresh 토큰 계보 생성, 통과한 2차 인증 방식을 토큰에 기록)
+    private LoginResponse issueTokens(AuthTrace trace, String username, TwoFactorType secondFactor) {
+        String family = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        long generation = tokenGenerations.current(username);
+        String accessToken = trace.stage(JWT_SIGN, () -> jwtUtil.createAccessToken(username, family, secondFactor, generation));
+        String refreshToken = trace.stage(JWT_SIGN, () -> jwtUtil.createRefreshToken(username, family, tokenId, secondFactor, generation));
+        trace.stage(REDIS, () -> redisUtil.setRefreshFamily(family, username, tokenId, jwtUtil.getRefreshTokenExpiration()));
 
         return LoginResponse.builder()
                 .requiresTwoFactor(false)
@@ -163,25 +311,49 @@ public class AuthService {
                 .build();
     }
 
-    private void sendEmailMock(String email, String code) {
-        try {
-            // 외부 SMTP 서버 통신 지연 시뮬레이션 (300ms ~ 500ms)
-            Thread.sleep(300);
-            System.out.println("[Email Send] To: " + email + ", Code: " + code);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    // createCredentials() 는 synchronized 로 감싼 자체 SecureRandom 과 불필요한 스크래치 코드 생성을 거치므로
+    // 동일한 160bit 시크릿을 직접 생성하여 Base32 인코딩
+    public String generateTotpSecret() {
+        return new Base32().encodeToString(secureRandom.nextBytes(20));
     }
 
-    public String generateTotpSecret() {
-        return gAuth.createCredentials().getKey();
+    // TOTP 등록 시작 (시크릿은 활성화 전까지 Redis 에만 TTL 과 함께 보관, 다시 요청하면 이전 등록을 대체)
+    // username 은 인증 필터가 검증한 access 토큰의 사용자
+    public TotpProvisionResponse provisionTotp(String username) {
+        String secret = generateTotpSecret();
+        redisUtil.setTotpSetup(username, secret, totpProvisioning.setupTtlMillis());
+        return new TotpProvisionResponse(totpProvisioning.uri(username, secret), secret,
+                "/api/auth/totp/provision/qr?format=png", totpProvisioning.setupTtlSeconds());
     }
 
+    // 진행 중인 등록의 QR 코드 (형식별로 한 번만 렌더링하고 등록 Hash 에 캐싱)
+    public byte[] totpQrCode(String username, QrFormat format) {
+        RedisUtil.TotpSetup setup = redisUtil.getTotpSetup(username, format.field());
+        if (setup == null) {
+            throw new IllegalArgumentException("진행 중인 TOTP 등록이 없습니다.");
+        }
+        if (setup.rendered() != null) {
+            return setup.rendered();
+        }
+        byte[] rendered = totpProvisioning.render(username, setup.secret(), format);
+        redisUtil.cacheTotpSetupRender(username, setup.secret(), format.field(), rendered);
+        return rendered;
+    }
+
+    // secretKey 가 없으면 진행 중인 등록의 시크릿 사용
     @Transactional
-    public String activateTotp(String bearerToken, String secretKey, String code) {
-        User user = userService.findByUsername(jwtUtil.getUsername(bearerToken.substring(7)));
-        verifyTotpCode(secretKey, code.trim());
-        user.enableTotp(secretKey);
-        return "TOTP가 성공적으로 활성화되었습니다.";
+    public String activateTotp(String username, String secretKey, String code) {
+        User user = userService.findByUsername(username);
+        String secret = secretKey != null ? secretKey : redisUtil.getTotpSetupSecret(user.getUsername());
+        if (secret == null) {
+            throw new IllegalArgumentException("진행 중인 TOTP 등록이 없습니다.");
+        }
+        long step = verifyTotpCode(secret, code.trim());
+        markTotpUsed(user.getUsername(), step);
+        userService.enableTotp(user, secret);
+        redisUtil.deleteTotpSetup(user.getUsername());
+        // 2FA 없이 발급된 기존 세션은 모두 폐기
+        tokenGenerations.revokeAll(user.getUsername());
+        return "TOTP가 성공적으로 활성화되었습니다. 다시 로그인해주세요.";
     }
 }
@@ -0,0 +1,339 @@
+package org.example.authlab.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.binary.Base32;
+import org.example.authlab.domain.auth.blacklist.TokenBlacklist;
+import org.example.authlab.domain.auth.blacklist.TokenGenerations;
+import org.example.authlab.domain.auth.delivery.CodeDeliveryService;
+import org.example.authlab.domain.auth.dto.request.LoginRequest;
+import org.example.authlab.domain.auth.dto.request.SignupRequest;
+import org.example.authlab.domain.auth.dto.response.IntrospectResponse;
+import org.example.authlab.domain.auth.dto.response.LoginResponse;
+import org.example.authlab.domain.auth.dto.response.SignupResponse;
+import org.example.authlab.domain.auth.dto.response.TotpProvisionResponse;
+import org.example.authlab.domain.auth.introspect.TokenIntrospector;
+import org.example.authlab.domain.auth.jwt.JwtClaims;
+import org.example.authlab.domain.auth.jwt.JwtTokenType;
+import org.example.authlab.domain.auth.jwt.JwtUtil;
+import org.example.authlab.domain.auth.password.PasswordHashingService;
+import org.example.authlab.domain.auth.totp.QrFormat;
+import org.example.authlab.domain.auth.totp.TotpProvisioning;
+import org.example.authlab.domain.auth.totp.TotpVerifier;
+import org.example.authlab.domain.user.dto.UserCredential;
+import org.example.authlab.domain.user.dto.UserSecondFactor;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.example.authlab.domain.user.service.ReactiveUserService;
+import org.example.authlab.global.util.ReactiveRedisUtil;
+import org.example.authlab.global.util.SecureRandomPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+// AuthService 의 논블로킹 버전 (reactive 프로필, 같은 API 계약)
+// 이벤트 루프에서는 Redis/R2DBC 를 구독만 하고, 비밀번호 해시는 PasswordHashingService 전용 풀에서 처리
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ReactiveUserService userService;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtUtil jwtUtil;
+    private final ReactiveRedisUtil redisUtil;
+    private final CodeDeliveryService codeDeliveryService;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenGenerations tokenGenerations;
+    private final TokenIntrospector tokenIntrospector;
+    private final SecureRandomPool secureRandom;
+    private final TotpVerifier totpVerifier;
+    private final TotpProvisioning totpProvisioning;
+
+    @Value("${auth.pre-auth.ttl-seconds:300}")
+    private long preAuthTtlSeconds;
+    @Value("${auth.pre-auth.code-ttl-seconds:180}")
+    private long codeTtlSeconds;
+    @Value("${auth.pre-auth.max-attempts:5}")
+    private int maxAttempts;
+
+    public Mono<SignupResponse> signup(SignupRequest request) {
+        return userService.existsByUsername(request.getUsername())
+                .flatMap(exists -> exists
+                        ? Mono.<String>error(new IllegalArgumentException("이미 존재하는 사용자입니다."))
+                        : Mono.fromFuture(() -> passwordHashingService.encodeAsync(request.getPassword())))
+                .flatMap(encodedPassword -> userService.save(request.getUsername(), encodedPassword))
+                .map(user -> new SignupResponse(true, "success", user.id()));
+    }
+
+    public Mono<LoginResponse> login(LoginRequest request) {
+        return userService.findCredential(request.getUsername())
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")))
+                .flatMap(user -> Mono.fromFuture(() -> passwordHashingService.matchesAsync(request.getPassword(), user.password()))
+                        .flatMap(matched -> {
+                            if (!matched) {
+                                return Mono.error(new IllegalArgumentException("비밀번호가 일치하지 않습니다."));
+                            }
+                            passwordHashingService.upgradeIfNeeded(user.username(), request.getPassword(), user.password());
+
+                            // 2FA가 필요한지 확인
+                            return user.twoFactorType() != null ? startSecondFactor(user) : issueTokens(user.username(), TwoFactorType.NONE);
+                        }));
+    }
+
+    private Mono<LoginResponse> startSecondFactor(UserCredential user) {
+        String preAuthToken = UUID.randomUUID().toString();
+        Mono<Void> stored;
+        if (TwoFactorType.CSPRNG.equals(user.twoFactorType())) {
+            String code = String.valueOf(100000 + secureRandom.nextInt(900000));
+
+            // 세션(코드 digest 포함) 저장 후 발송은 큐에 적재만 함 (이벤트 루프를 막지 않음)
+            stored = redisUtil.setPreAuthSession(preAuthToken, user.username(), code, TimeUnit.SECONDS.toMillis(codeTtlSeconds))
+                    .then(Mono.defer(() -> codeDeliveryService.enqueue(user.email(), code)
+                            ? Mono.<Void>empty()
+                            : Mono.error(new IllegalStateException("인증 코드 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."))));
+        } else {
+            stored = redisUtil.setPreAuthSession(preAuthToken, user.username(), null, TimeUnit.SECONDS.toMillis(preAuthTtlSeconds));
+        }
+
+        return stored.thenReturn(LoginResponse.builder()
+                .requiresTwoFactor(true)
+                .preAuthToken(preAuthToken)
+                .message("2단계 인증(OTP)이 필요합니다.")
+                .build());
+    }
+
+    public Mono<String> logout(String bearerToken) {
+        return Mono.defer(() -> {
+            if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+                String accessToken = bearerToken.substring(7);
+                JwtClaims claims = jwtUtil.parseClaims(accessToken);
+
+                // 토큰 시간이 남았으면 블랙리스트 등록 후 다른 노드에 전파, 같은 로그인의 refresh 토큰 계보도 폐기
+                if (!claims.isExpired()) {
+                    byte[] digest = TokenBlacklist.digest(accessToken, claims);
+                    tokenBlacklist.addLocal(digest);
+                    return Mono.when(
+                                    redisUtil.setBlackList(digest, claims.expiration()),
+                                    redisUtil.convertAndSend(TokenBlacklist.CHANNEL, HEX.formatHex(digest)),
+                                    claims.family() != null ? redisUtil.deleteRefreshFamily(claims.family()) : Mono.empty())
+                            .thenReturn("로그아웃 되었습니다.");
+                }
+            }
+            return Mono.just("이미 로그아웃 상태이거나 토큰이 유효하지 않습니다.");
+        });
+    }
+
+    // 모든 기기에서 로그아웃 (AuthService.logoutAll 과 같은 판정)
+    public Mono<String> logoutAll(String bearerToken) {
+        return Mono.defer(() -> {
+            String accessToken = bearerToken != null && bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : null;
+            JwtClaims claims = accessToken != null ? jwtUtil.verify(accessToken).orElse(null) : null;
+            if (claims == null || claims.type() == JwtTokenType.REFRESH) {
+                return Mono.error(new IllegalArgumentException("유효하지 않은 토큰입니다."));
+            }
+
+            byte[] digest = TokenBlacklist.digest(accessToken, claims);
+            Mono<Boolean> revoked = tokenBlacklist.mightContain(accessToken, digest)
+                    ? redisUtil.isBlackListed(digest, claims.expiration(), tokenBlacklist.legacyToken(accessToken))
+                    : Mono.just(false);
+            return revoked
+                    .flatMap(isRevoked -> isRevoked
+                            ? Mono.just(true)
+                            : currentGeneration(claims.username()).map(current -> TokenGenerations.isStale(claims, current)))
+                    .flatMap(rejected -> rejected
+                            ? Mono.<Long>error(new IllegalArgumentException("유효하지 않은 토큰입니다."))
+                            : revokeAll(claims.username()))
+                    .thenReturn("모든 기기에서 로그아웃 되었습니다.");
+        });
+    }
+
+    // 토큰 일괄 검사 (AuthService.introspect 와 같은 판정, 블랙리스트 조회만 논블로킹)
+    public Mono<IntrospectResponse> introspect(List<String> tokens) {
+        return Mono.fromFuture(() -> tokenIntrospector.prepareAsync(tokens))
+                // 블랙리스트, 세대 조회를 동시에 보냄
+                .flatMap(batch -> Mono.zip(
+                                batch.needsBlacklistLookup()
+                                        ? redisUtil.areBlackListed(batch.digests(), batch.expirations(), batch.legacyTokens())
+                                        : Mono.just(List.<Boolean>of()),
+                                batch.needsGenerationLookup()
+                                        ? redisUtil.getTokenGenerations(batch.usernames())
+                                        : Mono.just(List.<Long>of()))
+                        .map(lookups -> batch.complete(lookups.getT1(), lookups.getT2())));
+    }
+
+    // refresh 토큰 회전 (AuthService.refresh 와 같은 Lua 스크립트 사용)
+    public Mono<LoginResponse> refresh(String refreshToken) {
+        return Mono.defer(() -> {
+            JwtClaims claims = refreshToken != null ? jwtUtil.verify(refreshToken).orElse(null) : null;
+            if (claims == null || claims.type() != JwtTokenType.REFRESH || claims.family() == null || claims.id() == null) {
+                return Mono.error(new IllegalArgumentException("유효하지 않은 refresh 토큰입니다."));
+            }
+
+            String nextTokenId = UUID.randomUUID().toString();
+            // 모든 세션 폐기 이전에 발급된 계보는 재발급 불가
+            return currentGeneration(claims.username())
+                    .flatMap(current -> TokenGenerations.isStale(claims, current)
+                            ? Mono.<Long>error(new IllegalArgumentException("refresh 토큰이 만료되었습니다. 다시 로그인해주세요."))
+                            : redisUtil.rotateRefreshFamily(claims.family(), claims.id(), nextTokenId))
+                    .flatMap(result -> {
+                        if (result < 0) {
+                            return Mono.error(new IllegalArgumentException("이미 사용된 refresh 토큰입니다. 다시 로그인해주세요."));
+                        }
+                        if (result == 0) {
+                            return Mono.error(new IllegalArgumentException("refresh 토큰이 만료되었습니다. 다시 로그인해주세요."));
+                        }
+                        return Mono.just(LoginResponse.builder()
+                                .requiresTwoFactor(false)
+                                .accessToken(jwtUtil.createAccessToken(claims.username(), claims.family(), claims.secondFactor(), claims.generation()))
+                                .refreshToken(jwtUtil.createRefreshToken(claims.username(), claims.family(), nextTokenId,
+                                        claims.secondFactor(), claims.generation(), claims.expiration()))
+                                .message("토큰 재발급 성공")
+                                .build());
+                    });
+        });
+    }
+
+    public Mono<LoginResponse> verifySecondFactor(String preAuthToken, String code) {
+        String trimmed = code.trim();
+        return redisUtil.verifyPreAuth(preAuthToken, trimmed, maxAttempts)
+                .flatMap(check -> {
+                    if (check.status() == 0) {
+                        return Mono.error(new IllegalArgumentException("인증 세션이 만료되었습니다."));
+                    }
+                    if (check.status() == 1) {
+                        return issueTokens(check.username(), TwoFactorType.CSPRNG);
+                    }
+                    if (check.status() < 0) {
+                        return Mono.error(new IllegalArgumentException("이메일 인증 코드가 일치하지 않습니다."));
+                    }
+                    return userService.findSecondFactor(check.username())
+                            .flatMap(user -> completeTotp(user, preAuthToken, trimmed));
+                });
+    }
+
+    // TOTP 검증 후 replay 확인과 세션 소비를 Lua 1회로 처리
+    private Mono<LoginResponse> completeTotp(UserSecondFactor user, String preAuthToken, String code) {
+        if (!TwoFactorType.TOTP.equals(user.twoFactorType())) {
+            return Mono.error(new IllegalArgumentException("지원하지 않는 인증 방식입니다."));
+        }
+        // 불일치도 세션에 실패로 기록해야 하므로 예외 대신 -1 로 넘김
+        return Mono.fromCallable(() -> totpVerifier.verify(user.totpSecret(), parseCode(code)))
+                .flatMap(step -> redisUtil.completePreAuthTotp(preAuthToken, user.username(), step, totpVerifier.replayTtlMillis(), maxAttempts))
+                .flatMap(result -> {
+                    if (result == 0) {
+                        return Mono.error(new IllegalArgumentException("인증 세션이 만료되었습니다."));
+                    }
+                    if (result == -2) {
+                        return Mono.error(new IllegalArgumentException("이미 사용된 인증 코드입니다."));
+                    }
+                    if (result < 0) {
+                        return Mono.error(new IllegalArgumentException("인증 코드가 올바르지 않습니다. 다시 시도해주세요."));
+                    }
+                    return issueTokens(user.username(), TwoFactorType.TOTP);
+                });
+    }
+
+    private int parseCode(String code) {
+        try {
+            return Integer.parseInt(code);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("인증 코드는 숫자여야 합니다.");
+        }
+    }
+
+    // 일치한 time step 반환 (CPU 연산만 하므로 이벤트 루프에서 실행)
+    private long verifyTotpCode(String secretKey, String code) {
+        long step = totpVerifier.verify(secretKey, parseCode(code));
+
+        if (step < 0) {
+            throw new IllegalArgumentException("인증 코드가 올바르지 않습니다. 다시 시도해주세요.");
+        }
+        return step;
+    }
+
+    // 사용자별 마지막으로 사용한 time step 보다 이전이거나 같은 코드는 거부
+    private Mono<Void> markTotpUsed(String username, long step) {
+        return redisUtil.setIfGreater("TOTP_STEP:" + username, step, totpVerifier.replayTtlMillis())
+                .flatMap(updated -> updated
+                        ? Mono.<Void>empty()
+                        : Mono.error(new IllegalArgumentException("이미 사용된 인증 코드입니다.")));
+    }
+
+    // 토큰 발급 로직 (로그인마다 새 refresh 토큰 계보 생성, 통과한 2차 인증 방식을 토큰에 기록)
+    private Mono<LoginResponse> issueTokens(String username, TwoFactorType secondFactor) {
+        String family = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+
+        return currentGeneration(username).flatMap(generation -> {
+            String accessToken = jwtUtil.createAccessToken(username, family, secondFactor, generation);
+            String refreshToken = jwtUtil.createRefreshToken(username, family, tokenId, secondFactor, generation);
+
+            return redisUtil.setRefreshFamily(family, username, tokenId, jwtUtil.getRefreshTokenExpiration())
+                    .thenReturn(LoginResponse.builder()
+                            .requiresTwoFactor(false)
+                            .accessToken(accessToken)
+                            .refreshToken(refreshToken)
+                            .message("로그인 성공")
+                            .build());
+        });
+    }
+
+    // 현재 토큰 세대 (로컬 캐시 미스일 때만 Redis 조회)
+    private Mono<Long> currentGeneration(String username) {
+        return tokenGenerations.current(username, () -> redisUtil.getTokenGeneration(username));
+    }
+
+    // 세대 증가 + 전파 후 로컬 캐시에도 바로 반영
+    private Mono<Long> revokeAll(String username) {
+        return redisUtil.incrementTokenGeneration(username, TokenGenerations.CHANNEL)
+                .doOnNext(generation -> tokenGenerations.update(username, generation));
+    }
+
+    public String generateTotpSecret() {
+        return new Base32().encodeToString(secureRandom.nextBytes(20));
+    }
+
+    // username 은 인증 필터가 검증한 access 토큰의 사용자
+    public Mono<TotpProvisionResponse> provisionTotp(String username) {
+        String secret = generateTotpSecret();
+        return redisUtil.setTotpSetup(username, secret, totpProvisioning.setupTtlMillis())
+                .thenReturn(new TotpProvisionResponse(totpProvisioning.uri(username, secret), secret,
+                        "/api/auth/totp/provision/qr?format=png", totpProvisioning.setupTtlSeconds()));
+    }
+
+    // 렌더링은 수 KB 를 메모리에서 기록하는 CPU 연산이므로 이벤트 루프에서 실행
+    public Mono<byte[]> totpQrCode(String username, QrFormat format) {
+        return redisUtil.getTotpSetup(username, format.field())
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("진행 중인 TOTP 등록이 없습니다.")))
+                .flatMap(setup -> {
+                    if (setup.rendered() != null) {
+                        return Mono.just(setup.rendered());
+                    }
+                    byte[] rendered = totpProvisioning.render(username, setup.secret(), format);
+                    return redisUtil.cacheTotpSetupRender(username, setup.secret(), format.field(), rendered)
+                            .thenReturn(rendered);
+                });
+    }
+
+    // secretKey 가 없으면 진행 중인 등록의 시크릿 사용
+    public Mono<String> activateTotp(String username, String secretKey, String code) {
+        return userService.findSecondFactor(username)
+                .flatMap(user -> Mono.justOrEmpty(secretKey)
+                        .switchIfEmpty(redisUtil.getTotpSetupSecret(user.username()))
+                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("진행 중인 TOTP 등록이 없습니다.")))
+                        .flatMap(secret -> markTotpUsed(user.username(), verifyTotpCode(secret, code.trim()))
+                                .then(userService.enableTotp(user.username(), secret)))
+                        .then(redisUtil.deleteTotpSetup(user.username()))
+                        // 2FA 없이 발급된 기존 세션은 모두 폐기
+                        .then(revokeAll(user.username())))
+                .thenReturn("TOTP가 성공적으로 활성화되었습니다. 다시 로그인해주세요.");
+    }
+}
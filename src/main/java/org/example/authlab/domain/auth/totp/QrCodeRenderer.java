@@ -0,0 +1,230 @@
+package org.example.authlab.domain.auth.totp;
+
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// QR 코드 렌더링 (zxing 은 모듈 행렬 계산에만 사용)
+// MatrixToImageWriter 처럼 BufferedImage 를 만들지 않고 모듈 행렬에서 바로 PNG/SVG 를 출력 스트림에 기록
+// PNG: 1bit 흑백, 같은 모듈 행은 한 번만 만들어 scale 번 압축하고, 압축 결과는 고정 크기 버퍼가 찰 때마다 IDAT 청크로 기록
+// Deflater(네이티브 zlib 상태)와 버퍼는 풀에서 재사용
+public class QrCodeRenderer {
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] IHDR = {'I', 'H', 'D', 'R'};
+    private static final byte[] IDAT = {'I', 'D', 'A', 'T'};
+    private static final byte[] IEND = {'I', 'E', 'N', 'D'};
+    private static final int QUIET_ZONE = 4;
+    private static final int CHUNK_SIZE = 8192;
+
+    private final int scale;
+    private final BlockingQueue<PngEncoder> encoders;
+
+    public QrCodeRenderer(int scale, int poolSize) {
+        if (scale < 1) {
+            throw new IllegalArgumentException("QR 코드 scale 은 1 이상이어야 합니다.");
+        }
+        this.scale = scale;
+        this.encoders = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    public ByteMatrix encode(String contents) {
+        try {
+            return Encoder.encode(contents, ErrorCorrectionLevel.M).getMatrix();
+        } catch (WriterException e) {
+            throw new IllegalStateException("QR 코드를 생성할 수 없습니다.", e);
+        }
+    }
+
+    public void write(ByteMatrix matrix, QrFormat format, OutputStream out) throws IOException {
+        if (format == QrFormat.SVG) {
+            writeSvg(matrix, out);
+        } else {
+            writePng(matrix, out);
+        }
+    }
+
+    // 이미지 한 변의 픽셀 수 (여백 포함)
+    public int size(ByteMatrix matrix) {
+        return (matrix.getWidth() + QUIET_ZONE * 2) * scale;
+    }
+
+    public void writePng(ByteMatrix matrix, OutputStream out) throws IOException {
+        PngEncoder encoder = encoders.poll();
+        if (encoder == null) {
+            encoder = new PngEncoder();
+        }
+        try {
+            encoder.write(matrix, out);
+        } finally {
+            encoder.reset();
+            if (!encoders.offer(encoder)) {
+                encoder.close();
+            }
+        }
+    }
+
+    // 가로로 이어진 검은 모듈을 사각형 하나로 합친 단일 path (단위: 모듈)
+    // 숫자와 명령은 ASCII 바이트로 바로 기록 (문자열 연결, 문자 인코더 버퍼 없음)
+    public void writeSvg(ByteMatrix matrix, OutputStream out) throws IOException {
+        int modules = matrix.getWidth() + QUIET_ZONE * 2;
+        writeAscii(out, "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+        writeNumber(out, size(matrix));
+        writeAscii(out, "\" height=\"");
+        writeNumber(out, size(matrix));
+        writeAscii(out, "\" viewBox=\"0 0 ");
+        writeNumber(out, modules);
+        out.write(' ');
+        writeNumber(out, modules);
+        writeAscii(out, "\" shape-rendering=\"crispEdges\"><rect width=\"100%\" height=\"100%\" fill=\"#fff\"/><path d=\"");
+        for (int y = 0; y < matrix.getHeight(); y++) {
+            int x = 0;
+            while (x < matrix.getWidth()) {
+                if (matrix.get(x, y) != 1) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < matrix.getWidth() && matrix.get(x, y) == 1) {
+                    x++;
+                }
+                out.write('M');
+                writeNumber(out, start + QUIET_ZONE);
+                out.write(' ');
+                writeNumber(out, y + QUIET_ZONE);
+                out.write('h');
+                writeNumber(out, x - start);
+                writeAscii(out, "v1h-");
+                writeNumber(out, x - start);
+                out.write('z');
+            }
+        }
+        writeAscii(out, "\"/></svg>");
+    }
+
+    private static void writeAscii(OutputStream out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            out.write(value.charAt(i));
+        }
+    }
+
+    // 0 이상의 정수 (QR 코드 크기는 수천을 넘지 않음)
+    private static void writeNumber(OutputStream out, int value) throws IOException {
+        if (value >= 10) {
+            writeNumber(out, value / 10);
+        }
+        out.write('0' + value % 10);
+    }
+
+    private class PngEncoder {
+        private final Deflater deflater = new Deflater();
+        private final CRC32 crc = new CRC32();
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private final byte[] header = new byte[13];
+        private final byte[] number = new byte[4];
+        private byte[] row = new byte[0];
+        private int pending;
+
+        void write(ByteMatrix matrix, OutputStream out) throws IOException {
+            int size = size(matrix);
+            int rowBytes = 1 + (size + 7) / 8;
+            if (row.length < rowBytes) {
+                row = new byte[rowBytes];
+            }
+
+            out.write(PNG_SIGNATURE);
+            // 1bit 흑백, 인터레이스 없음
+            putInt(header, 0, size);
+            putInt(header, 4, size);
+            header[8] = 1;
+            header[9] = 0;
+            header[10] = 0;
+            header[11] = 0;
+            header[12] = 0;
+            writeChunk(out, IHDR, header, 13);
+
+            int modules = matrix.getWidth() + QUIET_ZONE * 2;
+            for (int moduleY = 0; moduleY < modules; moduleY++) {
+                fillRow(matrix, moduleY - QUIET_ZONE, rowBytes);
+                for (int i = 0; i < scale; i++) {
+                    deflater.setInput(row, 0, rowBytes);
+                    while (!deflater.needsInput()) {
+                        deflate(out);
+                    }
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(out);
+            }
+            if (pending > 0) {
+                writeChunk(out, IDAT, chunk, pending);
+                pending = 0;
+            }
+            writeChunk(out, IEND, chunk, 0);
+        }
+
+        // 필터 없음(0) + 흰색(1) 으로 채운 뒤 검은 모듈의 픽셀만 0 으로
+        private void fillRow(ByteMatrix matrix, int y, int rowBytes) {
+            row[0] = 0;
+            for (int i = 1; i < rowBytes; i++) {
+                row[i] = (byte) 0xFF;
+            }
+            if (y < 0 || y >= matrix.getHeight()) {
+                return;
+            }
+            for (int x = 0; x < matrix.getWidth(); x++) {
+                if (matrix.get(x, y) == 1) {
+                    int start = (x + QUIET_ZONE) * scale;
+                    for (int pixel = start; pixel < start + scale; pixel++) {
+                        row[1 + (pixel >>> 3)] &= (byte) ~(0x80 >>> (pixel & 7));
+                    }
+                }
+            }
+        }
+
+        // 버퍼가 가득 차면 IDAT 청크 하나로 바로 기록
+        private void deflate(OutputStream out) throws IOException {
+            pending += deflater.deflate(chunk, pending, chunk.length - pending);
+            if (pending == chunk.length) {
+                writeChunk(out, IDAT, chunk, pending);
+                pending = 0;
+            }
+        }
+
+        private void writeChunk(OutputStream out, byte[] type, byte[] data, int length) throws IOException {
+            crc.reset();
+            crc.update(type);
+            crc.update(data, 0, length);
+            putInt(number, 0, length);
+            out.write(number);
+            out.write(type);
+            out.write(data, 0, length);
+            putInt(number, 0, (int) crc.getValue());
+            out.write(number);
+        }
+
+        void reset() {
+            deflater.reset();
+            pending = 0;
+        }
+
+        void close() {
+            deflater.end();
+        }
+    }
+
+    private static void putInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.authlab.domain.auth.totp;
+
+import java.util.Locale;
+
+// QR 코드 이미지 형식 (field: Redis 등록 Hash 안의 렌더링 캐시 필드명)
+public enum QrFormat {
+    PNG("image/png"),
+    SVG("image/svg+xml");
+
+    private final String contentType;
+
+    QrFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String field() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static QrFormat from(String value) {
+        for (QrFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.authlab.domain.auth.totp;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// TOTP 등록 정보 (otpauth URI, QR 코드)
+// 진행 중인 등록은 Redis 에 TTL 과 함께 저장되고, 렌더링 결과도 같은 Hash 에 캐싱되어 형식별로 한 번만 렌더링
+@Component
+public class TotpProvisioning {
+    private final QrCodeRenderer renderer;
+    private final String issuer;
+    private final long setupTtlSeconds;
+
+    public TotpProvisioning(@Value("${auth.totp.issuer:AuthLab}") String issuer,
+                            @Value("${auth.totp.setup-ttl-seconds:600}") long setupTtlSeconds,
+                            @Value("${auth.totp.qr.scale:4}") int scale,
+                            @Value("${auth.totp.qr.encoder-pool-size:16}") int poolSize) {
+        this.renderer = new QrCodeRenderer(scale, poolSize);
+        this.issuer = issuer;
+        this.setupTtlSeconds = setupTtlSeconds;
+    }
+
+    // Google Authenticator 형식 (TotpVerifier 와 같은 SHA1 / 6자리 / 30초)
+    public String uri(String username, String secret) {
+        String encodedIssuer = encode(issuer);
+        return "otpauth://totp/" + encodedIssuer + ":" + encode(username)
+                + "?secret=" + secret
+                + "&issuer=" + encodedIssuer
+                + "&algorithm=SHA1&digits=6&period=" + TimeUnit.MILLISECONDS.toSeconds(TotpVerifier.TIME_STEP_MILLIS);
+    }
+
+    // Redis 에 캐싱하기 위해 바이트 배열로 렌더링 (스트림에 직접 기록하므로 중간 이미지 복사 없음)
+    public byte[] render(String username, String secret, QrFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        try {
+            renderer.write(renderer.encode(uri(username, secret)), format, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public long setupTtlMillis() {
+        return TimeUnit.SECONDS.toMillis(setupTtlSeconds);
+    }
+
+    public long setupTtlSeconds() {
+        return setupTtlSeconds;
+    }
+
+    // 경로 구분자(:)와 공백을 그대로 두지 않도록 인코딩 (URLEncoder 는 공백을 + 로 바꾸므로 %20 으로)
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
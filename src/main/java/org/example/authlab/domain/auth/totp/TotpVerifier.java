@@ -0,0 +1,109 @@
+package org.example.authlab.domain.auth.totp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.codec.binary.Base32;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+// TOTP 검증 (RFC 6238, HmacSHA1 / 30초 / 6자리, googleauth 기본값과 동일)
+// 시크릿마다 Base32 디코딩과 Mac 초기화(키 패딩)를 한 번만 하고, 초기화된 Mac 을 복제해서 사용
+// 현재 구간부터 확인하고 일치하면 바로 반환
+@Component
+public class TotpVerifier {
+    public static final long TIME_STEP_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final String ALGORITHM = "HmacSHA1";
+    private static final int MODULUS = 1_000_000;
+
+    private final Cache<String, Mac> keys;
+    private final int window;
+
+    public TotpVerifier(@Value("${auth.totp.key-cache.max-size:10000}") long maxSize,
+                        @Value("${auth.totp.window:1}") int window) {
+        this.keys = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        this.window = window;
+    }
+
+    // 일치한 time step 을 반환, 불일치면 -1
+    public long verify(String secret, int code, long nowMillis) {
+        if (code < 0 || code >= MODULUS) {
+            return -1;
+        }
+        // doFinal 후에는 초기화 직후 상태로 돌아가므로 한 번 복제해서 구간 전체에 사용
+        Mac mac = copy(keys.get(secret, TotpVerifier::initMac));
+        long current = nowMillis / TIME_STEP_MILLIS;
+        if (generate(mac, current) == code) {
+            return current;
+        }
+        for (int i = 1; i <= window; i++) {
+            if (generate(mac, current - i) == code) {
+                return current - i;
+            }
+            if (generate(mac, current + i) == code) {
+                return current + i;
+            }
+        }
+        return -1;
+    }
+
+    public long verify(String secret, int code) {
+        return verify(secret, code, System.currentTimeMillis());
+    }
+
+    // 사용한 time step 기록을 유지해야 하는 시간 (허용 구간이 모두 지날 때까지)
+    public long replayTtlMillis() {
+        return (2L * window + 2) * TIME_STEP_MILLIS;
+    }
+
+    public long size() {
+        return keys.estimatedSize();
+    }
+
+    static int generate(Mac mac, long step) {
+        byte[] counter = new byte[8];
+        for (int i = 7; i >= 0; i--) {
+            counter[i] = (byte) step;
+            step >>>= 8;
+        }
+        byte[] hash = mac.doFinal(counter);
+
+        // dynamic truncation
+        int offset = hash[hash.length - 1] & 0x0f;
+        int binary = ((hash[offset] & 0x7f) << 24)
+                | ((hash[offset + 1] & 0xff) << 16)
+                | ((hash[offset + 2] & 0xff) << 8)
+                | (hash[offset + 3] & 0xff);
+        return binary % MODULUS;
+    }
+
+    static Mac initMac(String secret) {
+        byte[] key = new Base32().decode(secret.toUpperCase());
+        if (key.length == 0) {
+            throw new IllegalArgumentException("TOTP 시크릿이 올바르지 않습니다.");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Mac 은 스레드 안전하지 않으므로 초기화된 상태를 복제해서 사용
+    // (ThreadLocal 은 Virtual Thread 모드에서 요청마다 새로 만들어지므로 사용하지 않음)
+    private static Mac copy(Mac prototype) {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.authlab.domain.user.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.authlab.domain.user.dto.UserCredential;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.example.authlab.global.util.RedisUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 로그인용 크리덴셜 Redis 캐시 (적중 시 DB 조회 없음)
+// 값: "id \t 2FA 방식 \t 이메일 \t 비밀번호 해시", 없는 사용자는 빈 문자열로 짧게 캐싱 (존재하지 않는 username 폭주 차단)
+// 가입, 2FA 설정 변경은 커밋 후 UserCacheInvalidator 가 새 스냅샷으로 덮어씀 (write-through)
+// 미스 때 DB 에서 읽은 값은 SET NX 로만 저장해 그 사이에 들어온 write-through 값을 덮어쓰지 않음
+@Slf4j
+@Component
+public class CredentialCache {
+    private static final String PREFIX = "CREDENTIAL:";
+    public static final String NOT_FOUND = "";
+
+    private final RedisUtil redisUtil;
+    private final long ttlSeconds;
+    private final long negativeTtlSeconds;
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+
+    public CredentialCache(RedisUtil redisUtil,
+                           MeterRegistry meterRegistry,
+                           @Value("${auth.credential-cache.ttl-seconds:600}") long ttlSeconds,
+                           @Value("${auth.credential-cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        this.redisUtil = redisUtil;
+        this.ttlSeconds = ttlSeconds;
+        this.negativeTtlSeconds = negativeTtlSeconds;
+        this.hits = meterRegistry.counter("auth.credential.cache", "result", "hit");
+        this.negativeHits = meterRegistry.counter("auth.credential.cache", "result", "negative");
+        this.misses = meterRegistry.counter("auth.credential.cache", "result", "miss");
+    }
+
+    // 캐시에 없으면 loader 로 조회 후 저장, 없는 사용자는 null
+    // Redis 장애 시에는 DB 로 바로 조회
+    public UserCredential get(String username, Function<String, UserCredential> loader) {
+        String key = PREFIX + username;
+        String cached;
+        try {
+            cached = redisUtil.get(key);
+        } catch (Exception e) {
+            log.debug("크리덴셜 캐시 조회 실패: {}", e.getMessage());
+            return loader.apply(username);
+        }
+
+        if (cached != null) {
+            if (NOT_FOUND.equals(cached)) {
+                negativeHits.increment();
+                return null;
+            }
+            hits.increment();
+            return decode(username, cached);
+        }
+
+        misses.increment();
+        UserCredential credential = loader.apply(username);
+        // 조회하는 사이 UserCacheInvalidator 가 새 스냅샷을 넣었을 수 있으므로 비어 있을 때만 저장 (SET NX)
+        try {
+            if (credential != null) {
+                redisUtil.setIfAbsent(key, encode(credential), ttlSeconds, TimeUnit.SECONDS);
+            } else {
+                redisUtil.setIfAbsent(key, NOT_FOUND, negativeTtlSeconds, TimeUnit.SECONDS);
+            }
+        } catch (Exception e) {
+            log.debug("크리덴셜 캐시 저장 실패: {}", e.getMessage());
+        }
+        return credential;
+    }
+
+    public void put(UserCredential credential) {
+        redisUtil.set(PREFIX + credential.username(), encode(credential), ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    public void evict(String username) {
+        redisUtil.delete(PREFIX + username);
+    }
+
+    // 여러 사용자 삭제 (파이프라인 1회 왕복)
+    public void evictAll(Collection<String> usernames) {
+        redisUtil.pipelined(ops -> usernames.forEach(username -> ops.delete(PREFIX + username)));
+    }
+
+    public long ttlSeconds() {
+        return ttlSeconds;
+    }
+
+    public long negativeTtlSeconds() {
+        return negativeTtlSeconds;
+    }
+
+    public static String key(String username) {
+        return PREFIX + username;
+    }
+
+    public static boolean isNotFound(String cached) {
+        return NOT_FOUND.equals(cached);
+    }
+
+    public static String encode(UserCredential credential) {
+        return credential.id() + "\t"
+                + (credential.twoFactorType() != null ? credential.twoFactorType().name() : "") + "\t"
+                + (credential.email() != null ? credential.email() : "") + "\t"
+                + credential.password();
+    }
+
+    public static UserCredential decode(String username, String value) {
+        String[] fields = value.split("\t", 4);
+        return new UserCredential(
+                Long.parseLong(fields[0]),
+                username,
+                fields[3],
+                fields[1].isEmpty() ? null : TwoFactorType.valueOf(fields[1]),
+                fields[2].isEmpty() ? null : fields[2]);
+    }
+}
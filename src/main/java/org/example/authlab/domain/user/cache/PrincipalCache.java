@@ -0,0 +1,48 @@
+package org.example.authlab.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인증 주체 로컬 캐시 (W-TinyLFU 크기 제한 + TTL)
+// 변경 시 UserCacheInvalidator 가 Redis Pub/Sub 으로 모든 노드에서 무효화
+@Component
+public class PrincipalCache {
+    private final Cache<String, AuthUser> cache;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principal");
+    }
+
+    // 캐시에 없으면 loader 로 조회 (null 은 캐싱하지 않음)
+    public AuthUser get(String username, Function<String, AuthUser> loader) {
+        return cache.get(username, loader);
+    }
+
+    public AuthUser getIfPresent(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    public void put(AuthUser user) {
+        cache.put(user.username(), user);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.authlab.domain.user.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+// 사용자 변경 시 로컬 캐시 무효화 + 다른 노드로 전파
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator implements MessageListener {
+    public static final String CHANNEL = "USER_CHANGED";
+
+    private final PrincipalCache principalCache;
+    private final CredentialCache credentialCache;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 커밋이 끝난 뒤에 무효화해야 다른 요청이 이전 값을 다시 캐싱하지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        principalCache.invalidate(event.username());
+        if (event.credential() != null) {
+            credentialCache.put(event.credential());
+        } else {
+            credentialCache.evict(event.username());
+        }
+        redisTemplate.convertAndSend(CHANNEL, event.username());
+    }
+
+    // 다른 노드(자기 자신 포함)에서 온 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        principalCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.authlab.domain.user.cache;
+
+import org.example.authlab.domain.user.dto.UserCredential;
+
+// 사용자 정보(2FA 설정 등) 변경 이벤트 - 커밋 이후 캐시 무효화에 사용
+// credential: 변경 후 스냅샷 (있으면 크리덴셜 캐시에 덮어쓰고, 없으면 삭제)
+public record UserChangedEvent(String username, UserCredential credential) {
+
+    public UserChangedEvent(String username) {
+        this(username, null);
+    }
+}
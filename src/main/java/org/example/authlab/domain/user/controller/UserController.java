@@ -1,7 +1,7 @@
 package org.example.authlab.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.example.authlab.domain.user.entity.User;
+import org.example.authlab.domain.user.dto.AuthUser;
 import org.example.authlab.domain.user.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,8 +18,8 @@ public class UserController {
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/me")
-    public String getMyInfo(@AuthenticationPrincipal User user) {
-        return "인증 성공! 당신의 ID는: " + user.getUsername();
+    public String getMyInfo(@AuthenticationPrincipal AuthUser user) {
+        return "인증 성공! 당신의 ID는: " + user.username();
     }
 
 }
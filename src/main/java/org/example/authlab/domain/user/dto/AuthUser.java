@@ -0,0 +1,7 @@
+package org.example.authlab.domain.user.dto;
+
+import org.example.authlab.domain.user.entity.TwoFactorType;
+
+// SecurityContext 에 올리는 인증 주체 (JPA 엔티티 대신 사용하는 불변 스냅샷)
+public record AuthUser(Long id, String username, TwoFactorType twoFactorType) {
+}
@@ -0,0 +1,12 @@
+package org.example.authlab.domain.user.dto;
+
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.example.authlab.domain.user.entity.User;
+
+// 로그인에 필요한 컬럼만 담은 스냅샷 (비밀번호 해시, 2FA 방식, 이메일)
+public record UserCredential(Long id, String username, String password, TwoFactorType twoFactorType, String email) {
+
+    public static UserCredential from(User user) {
+        return new UserCredential(user.getId(), user.getUsername(), user.getPassword(), user.getTwoFactorType(), user.getEmail());
+    }
+}
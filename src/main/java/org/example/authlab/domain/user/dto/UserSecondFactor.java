@@ -0,0 +1,7 @@
+package org.example.authlab.domain.user.dto;
+
+import org.example.authlab.domain.user.entity.TwoFactorType;
+
+// 2차 인증 검증에 필요한 컬럼만 담은 스냅샷 (reactive 프로필)
+public record UserSecondFactor(String username, TwoFactorType twoFactorType, String totpSecret) {
+}
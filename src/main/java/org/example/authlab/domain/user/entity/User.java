@@ -10,8 +10,14 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class User {
+    // id 시퀀스 (V2 마이그레이션), NEXT VALUE 1회로 [값, 값 + ID_ALLOCATION_SIZE) 블록을 사용 (pooled-lo)
+    // 대량 가입과 R2DBC 가입도 같은 규칙으로 블록을 받아 JPA 와 겹치지 않음
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, nullable = false)
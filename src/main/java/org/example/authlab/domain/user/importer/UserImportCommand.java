@@ -0,0 +1,30 @@
+package org.example.authlab.domain.user.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// CLI 가져오기: --auth.import.file=users.ndjson (확장자 .csv 면 CSV)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("auth.import.file")
+public class UserImportCommand implements ApplicationRunner {
+    private final UserImportService userImportService;
+
+    @Value("${auth.import.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        try (InputStream input = Files.newInputStream(Path.of(file))) {
+            userImportService.importUsers(input, UserImportFormat.fromFileName(file));
+        }
+    }
+}
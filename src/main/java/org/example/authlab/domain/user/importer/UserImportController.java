@@ -0,0 +1,32 @@
+package org.example.authlab.domain.user.importer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+// 대량 가입 (요청 본문을 그대로 스트리밍, auth.import.enabled=true 일 때만 등록)
+// 관리자(auth.admin.usernames)만 호출 가능 (SecurityConfig)
+@RestController
+@RequestMapping("/api/users")
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(name = "auth.import.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class UserImportController {
+    private final UserImportService userImportService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/ndjson", "text/csv"})
+    public UserImportResult importUsers(HttpServletRequest request) throws IOException {
+        return userImportService.importUsers(request.getInputStream(), UserImportFormat.fromContentType(request.getContentType()));
+    }
+}
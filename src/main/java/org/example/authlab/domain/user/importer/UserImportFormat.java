@@ -0,0 +1,22 @@
+package org.example.authlab.domain.user.importer;
+
+import java.util.Locale;
+
+public enum UserImportFormat {
+    NDJSON, CSV;
+
+    public static UserImportFormat fromContentType(String contentType) {
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (type.startsWith("application/x-ndjson") || type.startsWith("application/ndjson")) {
+            return NDJSON;
+        }
+        if (type.startsWith("text/csv")) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. (application/x-ndjson, text/csv)");
+    }
+
+    public static UserImportFormat fromFileName(String fileName) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+    }
+}
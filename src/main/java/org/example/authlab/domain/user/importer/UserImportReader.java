@@ -0,0 +1,120 @@
+package org.example.authlab.domain.user.importer;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+// 입력을 한 줄씩 읽어 UserImportRow 로 변환 (전체를 메모리에 올리지 않음)
+public final class UserImportReader {
+
+    private UserImportReader() {
+    }
+
+    public static Iterator<UserImportRow> read(InputStream input, UserImportFormat format, ObjectMapper objectMapper) throws IOException {
+        if (format == UserImportFormat.NDJSON) {
+            MappingIterator<UserImportRow> rows = objectMapper.readerFor(UserImportRow.class).readValues(input);
+            return rows;
+        }
+        return new CsvIterator(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+    }
+
+    // 첫 줄은 헤더 (username, password, passwordHash, email 중 필요한 컬럼, 순서 무관)
+    private static class CsvIterator implements Iterator<UserImportRow> {
+        private final BufferedReader reader;
+        private final int username;
+        private final int password;
+        private final int passwordHash;
+        private final int email;
+        private String next;
+
+        CsvIterator(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            String header = reader.readLine();
+            List<String> columns = header != null ? parseLine(header) : List.of();
+            List<String> names = columns.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+            this.username = names.indexOf("username");
+            this.password = names.indexOf("password");
+            this.passwordHash = names.indexOf("passwordhash");
+            this.email = names.indexOf("email");
+            if (header != null && username < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 username 컬럼이 없습니다.");
+            }
+            this.next = header != null ? readLine() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public UserImportRow next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> fields = parseLine(next);
+            next = readLine();
+            return new UserImportRow(field(fields, username), field(fields, password), field(fields, passwordHash), field(fields, email));
+        }
+
+        // 빈 줄은 건너뜀
+        private String readLine() {
+            try {
+                String line;
+                do {
+                    line = reader.readLine();
+                } while (line != null && line.isBlank());
+                return line;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String field(List<String> fields, int index) {
+            if (index < 0 || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+    }
+
+    // RFC 4180 한 줄 파싱 (따옴표 안의 쉼표, "" 이스케이프 지원, 필드 안 줄바꿈은 미지원)
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
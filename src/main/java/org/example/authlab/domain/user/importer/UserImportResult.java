@@ -0,0 +1,5 @@
+package org.example.authlab.domain.user.importer;
+
+// 가져오기 결과 (duplicates: 이미 존재하거나 파일 안에서 중복된 username)
+public record UserImportResult(long total, long inserted, long duplicates, long invalid, long elapsedMillis) {
+}
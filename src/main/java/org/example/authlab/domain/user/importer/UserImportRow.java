@@ -0,0 +1,17 @@
+package org.example.authlab.domain.user.importer;
+
+// 가져올 사용자 1건 (password: 평문, 가져오면서 해시 / passwordHash: 이미 해시된 값, {id} 접두사 포함)
+public record UserImportRow(String username, String password, String passwordHash, String email) {
+    // users 테이블의 VARCHAR(255) (INSERT IGNORE 는 긴 값을 오류 없이 잘라서 저장하므로 미리 제외)
+    static final int MAX_COLUMN_LENGTH = 255;
+
+    public boolean isValid() {
+        return username != null && !username.isBlank()
+                && ((password != null && !password.isEmpty()) || (passwordHash != null && !passwordHash.isEmpty()))
+                && fits(username) && fits(passwordHash) && fits(email);
+    }
+
+    private static boolean fits(String value) {
+        return value == null || value.length() <= MAX_COLUMN_LENGTH;
+    }
+}
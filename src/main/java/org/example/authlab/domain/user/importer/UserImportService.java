@@ -0,0 +1,162 @@
+package org.example.authlab.domain.user.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.authlab.domain.user.cache.CredentialCache;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.example.authlab.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 대량 사용자 가져오기 (NDJSON / CSV 스트리밍)
+// batch-size 건씩 읽어 비밀번호를 코어 수만큼 병렬 해시 → 다중 행 INSERT IGNORE 1문장으로 저장
+// JPA 를 거치지 않고 JdbcTemplate 으로 직접 저장, id 는 users_seq 에서 블록 단위로 미리 받아 함께 INSERT (User.ID_ALLOCATION_SIZE 건당 조회 1회)
+// username 중복은 행마다 조회하지 않고 UNIQUE 제약으로 건너뜀 (영향받은 행 수로 집계)
+@Slf4j
+@Service
+public class UserImportService {
+    private static final long PROGRESS_INTERVAL = 10_000;
+    private static final String NEXT_ID_SQL = "SELECT NEXT VALUE FOR " + User.ID_SEQUENCE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final CredentialCache credentialCache;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final ExecutorService hashPool;
+    private final String fullBatchSql;
+
+    private final Counter insertedRows;
+    private final Counter duplicateRows;
+    private final Counter invalidRows;
+
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             PasswordEncoder passwordEncoder,
+                             CredentialCache credentialCache,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.import.batch-size:500}") int batchSize,
+                             @Value("${auth.import.hash-threads:0}") int hashThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.credentialCache = credentialCache;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        // 해시는 CPU 작업이므로 코어 수만큼의 Platform Thread 에서 실행
+        this.hashPool = Executors.newFixedThreadPool(hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors(),
+                new CustomizableThreadFactory("user-import-hash-"));
+        this.fullBatchSql = insertSql(batchSize);
+
+        this.insertedRows = meterRegistry.counter("auth.import.rows", "result", "inserted");
+        this.duplicateRows = meterRegistry.counter("auth.import.rows", "result", "duplicate");
+        this.invalidRows = meterRegistry.counter("auth.import.rows", "result", "invalid");
+    }
+
+    @PreDestroy
+    public void stop() {
+        hashPool.shutdownNow();
+    }
+
+    public UserImportResult importUsers(InputStream input, UserImportFormat format) throws IOException {
+        long start = System.currentTimeMillis();
+        long total = 0;
+        long inserted = 0;
+        long invalid = 0;
+        long nextProgress = PROGRESS_INTERVAL;
+
+        Iterator<UserImportRow> rows = UserImportReader.read(input, format, objectMapper);
+        List<UserImportRow> batch = new ArrayList<>(batchSize);
+        while (rows.hasNext()) {
+            UserImportRow row = rows.next();
+            total++;
+            if (!row.isValid()) {
+                invalid++;
+                invalidRows.increment();
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                inserted += insert(batch);
+                batch.clear();
+            }
+            if (total >= nextProgress) {
+                log.info("사용자 가져오기 진행: {}건 처리, {}건 저장", total, inserted);
+                nextProgress += PROGRESS_INTERVAL;
+            }
+        }
+        if (!batch.isEmpty()) {
+            inserted += insert(batch);
+        }
+
+        UserImportResult result = new UserImportResult(total, inserted, total - invalid - inserted, invalid, System.currentTimeMillis() - start);
+        log.info("사용자 가져오기 완료: {}", result);
+        return result;
+    }
+
+    // 저장된 행 수 반환
+    private int insert(List<UserImportRow> batch) {
+        List<CompletableFuture<String>> hashes = batch.stream()
+                .map(row -> row.passwordHash() != null
+                        ? CompletableFuture.completedFuture(row.passwordHash())
+                        : CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()), hashPool))
+                .toList();
+
+        // 중복으로 건너뛴 행의 id 는 사용하지 않고 버림
+        long[] ids = allocateIds(batch.size());
+        Object[] args = new Object[batch.size() * 5];
+        for (int i = 0; i < batch.size(); i++) {
+            UserImportRow row = batch.get(i);
+            args[5 * i] = ids[i];
+            args[5 * i + 1] = row.username();
+            args[5 * i + 2] = hashes.get(i).join();
+            args[5 * i + 3] = TwoFactorType.NONE.name();
+            args[5 * i + 4] = row.email();
+        }
+        int inserted = jdbcTemplate.update(batch.size() == batchSize ? fullBatchSql : insertSql(batch.size()), args);
+
+        insertedRows.increment(inserted);
+        duplicateRows.increment(batch.size() - inserted);
+        // 가입 전 로그인 시도로 남아있을 수 있는 "없는 사용자" 캐시 제거 (실패해도 negative-ttl 후 만료)
+        try {
+            credentialCache.evictAll(batch.stream().map(UserImportRow::username).toList());
+        } catch (Exception e) {
+            log.warn("크리덴셜 캐시 삭제 실패: {}", e.getMessage());
+        }
+        return inserted;
+    }
+
+    // NEXT VALUE 1회당 [값, 값 + ID_ALLOCATION_SIZE) 를 사용 (JPA 의 pooled-lo 와 같은 규칙)
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i += User.ID_ALLOCATION_SIZE) {
+            long low = jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class);
+            for (int j = i; j < Math.min(count, i + User.ID_ALLOCATION_SIZE); j++) {
+                ids[j] = low + (j - i);
+            }
+        }
+        return ids;
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO users (id, username, password, two_factor_type, email) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.authlab.domain.user.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.example.authlab.domain.user.dto.UserCredential;
+import org.example.authlab.domain.user.dto.UserSecondFactor;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.example.authlab.domain.user.entity.User;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+// UserRepository 의 R2DBC 버전 (reactive 프로필, 필요한 컬럼만 조회)
+// 테이블은 Flyway 가 만든 users 를 그대로 사용 (id 는 JPA 와 같은 users_seq)
+// two_factor_type 은 ENUM 컬럼이라 상수는 바인딩하지 않고 SQL 에 직접 씀 (H2 R2DBC 는 문자열을 CLOB 으로 바인딩)
+@Repository
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+    private static final String NEXT_ID_SQL = "SELECT NEXT VALUE FOR " + User.ID_SEQUENCE;
+
+    private final DatabaseClient databaseClient;
+    // users_seq 에서 받은 id 블록 (JPA pooled-lo 와 같은 규칙, 동시에 새 블록을 받으면 먼저 받은 블록의 나머지는 버림)
+    private final AtomicReference<IdBlock> idBlock = new AtomicReference<>(new IdBlock(0, 0));
+
+    public Mono<Boolean> existsByUsername(String username) {
+        return databaseClient.sql("select 1 from users where username = :username limit 1")
+                .bind("username", username)
+                .map(row -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<AuthUser> findAuthUserByUsername(String username) {
+        return databaseClient.sql("select id, username, two_factor_type from users where username = :username")
+                .bind("username", username)
+                .map(row -> new AuthUser(row.get("id", Long.class), row.get("username", String.class), twoFactorType(row)))
+                .one();
+    }
+
+    public Mono<UserCredential> findCredentialByUsername(String username) {
+        return databaseClient.sql("select id, username, password, two_factor_type, email from users where username = :username")
+                .bind("username", username)
+                .map(row -> new UserCredential(
+                        row.get("id", Long.class),
+                        row.get("username", String.class),
+                        row.get("password", String.class),
+                        twoFactorType(row),
+                        row.get("email", String.class)))
+                .one();
+    }
+
+    public Mono<UserSecondFactor> findSecondFactorByUsername(String username) {
+        return databaseClient.sql("select username, two_factor_type, totp_secret from users where username = :username")
+                .bind("username", username)
+                .map(row -> new UserSecondFactor(row.get("username", String.class), twoFactorType(row), row.get("totp_secret", String.class)))
+                .one();
+    }
+
+    // 할당한 id 반환
+    public Mono<Long> insert(String username, String password) {
+        return nextId().flatMap(id -> databaseClient.sql("insert into users (id, username, password, two_factor_type) values (:id, :username, :password, '" + TwoFactorType.NONE.name() + "')")
+                .bind("id", id)
+                .bind("username", username)
+                .bind("password", password)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(id));
+    }
+
+    // 블록이 남아 있으면 DB 조회 없이 할당, 다 쓰면 NEXT VALUE 로 새 블록의 첫 id 를 사용
+    private Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            long id = idBlock.get().take();
+            if (id >= 0) {
+                return Mono.just(id);
+            }
+            return databaseClient.sql(NEXT_ID_SQL)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(low -> {
+                        idBlock.set(new IdBlock(low + 1, low + User.ID_ALLOCATION_SIZE));
+                        return low;
+                    });
+        });
+    }
+
+    // 변경된 행 수 반환
+    public Mono<Long> enableTotp(String username, String secret) {
+        return databaseClient.sql("update users set two_factor_type = '" + TwoFactorType.TOTP.name() + "', totp_secret = :secret where username = :username")
+                .bind("secret", secret)
+                .bind("username", username)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static TwoFactorType twoFactorType(Readable row) {
+        String type = row.get("two_factor_type", String.class);
+        return type != null ? TwoFactorType.valueOf(type) : null;
+    }
+
+    // [next, end) 범위의 id, 다 쓰면 -1
+    private static final class IdBlock {
+        private final AtomicLong next;
+        private final long end;
+
+        private IdBlock(long next, long end) {
+            this.next = new AtomicLong(next);
+            this.end = end;
+        }
+
+        private long take() {
+            long id = next.getAndIncrement();
+            return id < end ? id : -1;
+        }
+    }
+}
@@ -1,11 +1,34 @@
 package org.example.authlab.domain.user.repository;
 
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.example.authlab.domain.user.dto.UserCredential;
 import org.example.authlab.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     Optional<User> findByUsername(String username);
+
+    // 아래 두 조회는 캐시 미스 시 결과가 공유 캐시(PrincipalCache, CredentialCache)에 저장되므로
+    // 읽기 전용이 아닌 트랜잭션으로 primary 에서 조회 (지연된 replica 값이 TTL 동안 남지 않도록, 읽기 전용 트랜잭션 안에서 호출하지 말 것)
+
+    // 인증 주체에 필요한 컬럼만 조회 (엔티티 하이드레이션 없음)
+    @Transactional
+    @Query("select new org.example.authlab.domain.user.dto.AuthUser(u.id, u.username, u.twoFactorType) from User u where u.username = :username")
+    Optional<AuthUser> findAuthUserByUsername(String username);
+
+    // 로그인에 필요한 컬럼만 조회
+    @Transactional
+    @Query("select new org.example.authlab.domain.user.dto.UserCredential(u.id, u.username, u.password, u.twoFactorType, u.email) from User u where u.username = :username")
+    Optional<UserCredential> findCredentialByUsername(String username);
+
+    // 비밀번호 해시만 갱신 (로그인 시 재해시)
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(String username, String password);
 }
@@ -0,0 +1,90 @@
+package org.example.authlab.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.user.cache.CredentialCache;
+import org.example.authlab.domain.user.cache.PrincipalCache;
+import org.example.authlab.domain.user.cache.UserCacheInvalidator;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.example.authlab.domain.user.dto.UserCredential;
+import org.example.authlab.domain.user.dto.UserSecondFactor;
+import org.example.authlab.domain.user.entity.TwoFactorType;
+import org.example.authlab.domain.user.repository.ReactiveUserRepository;
+import org.example.authlab.global.util.ReactiveRedisUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+// UserService 의 논블로킹 버전 (reactive 프로필)
+// 캐시 키/값 형식과 무효화 채널은 MVC 와 동일
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveUserService {
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveRedisUtil redisUtil;
+    private final PrincipalCache principalCache;
+    private final CredentialCache credentialCache;
+
+    public Mono<UserSecondFactor> findSecondFactor(String username) {
+        return userRepository.findSecondFactorByUsername(username)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
+    }
+
+    // 인증 주체 조회 (로컬 캐시 우선, 없는 사용자는 empty)
+    public Mono<AuthUser> findAuthUser(String username) {
+        AuthUser cached = principalCache.getIfPresent(username);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return userRepository.findAuthUserByUsername(username).doOnNext(principalCache::put);
+    }
+
+    // 로그인용 크리덴셜 조회 (Redis 캐시 우선, 없는 사용자는 empty)
+    // Redis 장애 시에는 DB 로 바로 조회
+    public Mono<UserCredential> findCredential(String username) {
+        String key = CredentialCache.key(username);
+        return redisUtil.get(key)
+                .onErrorResume(e -> Mono.empty())
+                .switchIfEmpty(Mono.defer(() -> userRepository.findCredentialByUsername(username)
+                        .map(CredentialCache::encode)
+                        .defaultIfEmpty(CredentialCache.NOT_FOUND)
+                        // 조회하는 사이 저장된 새 스냅샷을 덮어쓰지 않도록 비어 있을 때만 저장 (CredentialCache.get 과 같음)
+                        .flatMap(value -> redisUtil.setIfAbsent(key, value, cacheTtl(value))
+                                .onErrorReturn(false)
+                                .thenReturn(value))))
+                .filter(value -> !CredentialCache.isNotFound(value))
+                .map(value -> CredentialCache.decode(username, value));
+    }
+
+    public Mono<Boolean> existsByUsername(String username) {
+        return userRepository.existsByUsername(username);
+    }
+
+    public Mono<UserCredential> save(String username, String encodedPassword) {
+        return userRepository.insert(username, encodedPassword)
+                .map(id -> new UserCredential(id, username, encodedPassword, TwoFactorType.NONE, null))
+                .flatMap(credential -> userChanged(credential).thenReturn(credential));
+    }
+
+    public Mono<Void> enableTotp(String username, String secret) {
+        return userRepository.enableTotp(username, secret)
+                .then(userRepository.findCredentialByUsername(username))
+                .flatMap(this::userChanged);
+    }
+
+    // UserCacheInvalidator.onUserChanged 와 같은 처리 (새 스냅샷으로 덮어쓰고 다른 노드에 전파)
+    private Mono<Void> userChanged(UserCredential credential) {
+        principalCache.invalidate(credential.username());
+        return Mono.when(
+                redisUtil.set(CredentialCache.key(credential.username()), CredentialCache.encode(credential), Duration.ofSeconds(credentialCache.ttlSeconds())),
+                redisUtil.convertAndSend(UserCacheInvalidator.CHANNEL, credential.username()));
+    }
+
+    private Duration cacheTtl(String value) {
+        return Duration.ofSeconds(CredentialCache.isNotFound(value) ? credentialCache.negativeTtlSeconds() : credentialCache.ttlSeconds());
+    }
+}
@@ -1,8 +1,14 @@
 package org.example.authlab.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.user.cache.CredentialCache;
+import org.example.authlab.domain.user.cache.PrincipalCache;
+import org.example.authlab.domain.user.cache.UserChangedEvent;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.example.authlab.domain.user.dto.UserCredential;
 import org.example.authlab.domain.user.entity.User;
 import org.example.authlab.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,18 +16,51 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final CredentialCache credentialCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public User findByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
     }
 
+    // 인증 주체 조회 (로컬 캐시 우선, 없는 사용자는 null)
+    public AuthUser findAuthUser(String username) {
+        return principalCache.get(username, name -> userRepository.findAuthUserByUsername(name).orElse(null));
+    }
+
+    // 로그인용 크리덴셜 조회 (Redis 캐시 우선, 없는 사용자는 null)
+    public UserCredential findCredential(String username) {
+        return credentialCache.get(username, name -> userRepository.findCredentialByUsername(name).orElse(null));
+    }
+
     public boolean existsByUsername(String username) {
         return userRepository.existsByUsername(username);
     }
 
     @Transactional // 호출된 곳에 이미 트랜잭션이 있을 경우 새로 만들지 않고 합류함(Propagation.REQUIRED)
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getUsername(), UserCredential.from(saved)));
+        return saved;
+    }
+
+    @Transactional
+    public void updatePassword(String username, String encodedPassword) {
+        userRepository.updatePassword(username, encodedPassword);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
+    }
+
+    @Transactional
+    public void enableTotp(User user, String secret) {
+        user.enableTotp(secret);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername(), UserCredential.from(user)));
+    }
+
+    @Transactional
+    public void enableCsprng(User user) {
+        user.enableCsprng();
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername(), UserCredential.from(user)));
     }
 }
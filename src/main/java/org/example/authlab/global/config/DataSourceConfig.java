@@ -0,0 +1,82 @@
+package org.example.authlab.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.authlab.global.util.ReplicaDataSource;
+import org.example.authlab.global.util.ThreadFactories;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+// 쓰기는 primary, 읽기 전용 트랜잭션은 replica 로 보내는 DataSource (servlet 프로필)
+// LazyConnectionDataSourceProxy 는 트랜잭션이 setReadOnly(true) 를 호출한 뒤 실제 커넥션을 가져오므로
+// @Transactional(readOnly = true) 와 리포지토리 기본 조회 트랜잭션은 ReplicaDataSource, 나머지는 primary 풀을 사용
+// (공유 캐시를 채우는 UserRepository 조회는 primary, UserRepository 참고)
+// auth.datasource.replica.urls 가 비어 있으면 모든 요청이 primary 로 감 (AOT 에서도 같은 빈 구성을 유지하도록 조건 없이 등록)
+@Configuration
+@ConditionalOnWebApplication(type = SERVLET)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                               DataSourceProperties properties,
+                                               ThreadFactories threadFactories,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${auth.datasource.replica.urls:}") String urls,
+                                               @Value("${auth.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                               @Value("${auth.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs,
+                                               @Value("${auth.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                               @Value("${auth.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+                                               @Value("${auth.datasource.replica.check-interval-ms:2000}") long checkIntervalMs) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        List<String> replicaUrls = Arrays.stream(urls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setJdbcUrl(replicaUrls.get(i));
+            pool.setUsername(properties.determineUsername());
+            pool.setPassword(properties.determinePassword());
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(maximumPoolSize);
+            // 장애 replica 는 빨리 포기하고 다른 replica 나 primary 로
+            pool.setConnectionTimeout(connectionTimeoutMs);
+            pool.setReadOnly(true);
+            // replica 가 내려가 있어도 기동은 계속 (상태 확인에서 제외됨)
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(pool);
+        }
+        return new ReplicaDataSource(primary, pools, lagQuery, maxLagSeconds, checkIntervalMs,
+                threadFactories.create("replica-check-"), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReplicaDataSource replicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicas);
+        return dataSource;
+    }
+}
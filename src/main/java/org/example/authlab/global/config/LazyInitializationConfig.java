@@ -0,0 +1,21 @@
+package org.example.authlab.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+// 지연 초기화(spring.main.lazy-initialization, prod 프로필)에서 제외할 빈
+// Pub/Sub 리스너는 생성될 때 구독하므로 지연되면 다른 노드의 블랙리스트/세대/캐시 무효화 전파를 놓침
+// EntityManagerFactory 는 기동 중에 만들어야 첫 로그인이 Hibernate 초기화를 기다리지 않음
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                MessageListener.class, EntityManagerFactory.class, AbstractEntityManagerFactoryBean.class);
+    }
+}
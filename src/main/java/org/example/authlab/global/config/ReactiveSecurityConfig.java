@@ -0,0 +1,75 @@
+package org.example.authlab.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.authlab.domain.auth.blacklist.TokenBlacklist;
+import org.example.authlab.domain.auth.blacklist.TokenGenerations;
+import org.example.authlab.domain.auth.introspect.IntrospectionClient;
+import org.example.authlab.domain.auth.jwt.JwtAuthenticationFilter;
+import org.example.authlab.domain.auth.jwt.JwtUtil;
+import org.example.authlab.domain.auth.jwt.ReactiveJwtAuthenticationFilter;
+import org.example.authlab.domain.auth.metrics.AuthMetrics;
+import org.example.authlab.domain.auth.ratelimit.RateLimiter;
+import org.example.authlab.domain.auth.ratelimit.ReactiveRateLimitFilter;
+import org.example.authlab.domain.user.service.ReactiveUserService;
+import org.example.authlab.global.util.ReactiveRedisUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+// SecurityConfig 의 WebFlux 버전 (같은 경로 규칙)
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         JwtUtil jwtUtil,
+                                                         ReactiveUserService userService,
+                                                         TokenBlacklist tokenBlacklist,
+                                                         TokenGenerations tokenGenerations,
+                                                         ReactiveRedisUtil redisUtil,
+                                                         AuthMetrics authMetrics,
+                                                         RateLimiter rateLimiter,
+                                                         ObjectMapper objectMapper,
+                                                         IntrospectionClient introspectionClient,
+                                                         @Value("${auth.rate-limit.enabled:true}") boolean rateLimitEnabled) {
+        if (rateLimitEnabled) {
+            // 로그인, 2FA 요청 제한 (토큰 검증보다 먼저)
+            http.addFilterBefore(new ReactiveRateLimitFilter(rateLimiter, redisUtil, objectMapper), SecurityWebFiltersOrder.AUTHENTICATION);
+        }
+        return http
+                // CSRF 비활성화
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                // JWT 사용하여서 비활성화
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                // 폼 로그인 비활성화
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                // 세션 비활성화
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // 경로별 인가 설정
+                .authorizeExchange(exchange -> exchange
+                        // 토큰 일괄 검사는 서비스 계정만 (Basic 인증)
+                        .pathMatchers("/api/auth/introspect").access((authentication, context) -> Mono.just(new AuthorizationDecision(
+                                introspectionClient.matches(context.getExchange().getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)))))
+                        // 회원가입, 로그인, 공개키 배포, 헬스 체크 (ReactiveJwtAuthenticationFilter 도 이 경로는 건너뜀)
+                        .pathMatchers(JwtAuthenticationFilter.PUBLIC_PATHS).permitAll()
+                        // 그 외 인증 필요
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtUtil, userService, tokenBlacklist, tokenGenerations, redisUtil, authMetrics),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -1,31 +1,39 @@
 package org.example.authlab.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.authlab.domain.auth.introspect.IntrospectionClient;
 import org.example.authlab.domain.auth.jwt.JwtAuthenticationFilter;
+import org.example.authlab.domain.auth.ratelimit.RateLimitFilter;
+import org.example.authlab.domain.user.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Set;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    // BCrypt 암호화
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    private final RateLimitFilter rateLimitFilter;
+    private final IntrospectionClient introspectionClient;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter,
+                                                   @Value("${auth.admin.usernames:}") Set<String> adminUsernames) throws Exception {
         http
                 // CSRF 비활성화
                 .csrf(AbstractHttpConfigurer::disable)
@@ -37,12 +45,20 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // 경로별 인가 설정
                 .authorizeHttpRequests(auth -> auth
-                        // 회원가입, 로그인 관련 API 모두 허용
-                        .requestMatchers("/api/auth/**").permitAll()
+                        // 회원가입, 로그인, 공개키 배포, 헬스 체크 (JwtAuthenticationFilter 도 이 경로는 건너뜀)
+                        .requestMatchers(JwtAuthenticationFilter.PUBLIC_PATHS).permitAll()
+                        // 토큰 일괄 검사는 서비스 계정만 (Basic 인증)
+                        .requestMatchers("/api/auth/introspect").access((authentication, context) -> new AuthorizationDecision(
+                                introspectionClient.matches(context.getRequest().getHeader(HttpHeaders.AUTHORIZATION))))
+                        // 대량 가입은 관리자 계정만
+                        .requestMatchers("/api/users/import").access((authentication, context) -> new AuthorizationDecision(
+                                authentication.get().getPrincipal() instanceof AuthUser user && adminUsernames.contains(user.username())))
                         // 그 외 인증 필요
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 로그인, 2FA 요청 제한 (토큰 검증보다 먼저)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
         ;
         return http.build();
     }
@@ -0,0 +1,51 @@
+package org.example.authlab.global.config;
+
+import org.example.authlab.domain.user.entity.User;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// V2: users.id 를 AUTO_INCREMENT 대신 users_seq 에서 할당
+// 시작 값이 기존 최대 id 에 따라 달라 SQL 파일 대신 Java 마이그레이션으로 작성 (JavaMigration 빈은 Flyway 자동 설정이 등록)
+// 클래스 이름으로 버전을 정하는 BaseJavaMigration 대신 버전을 직접 반환
+@Component
+public class UsersSequenceMigration implements JavaMigration {
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("2");
+    }
+
+    @Override
+    public String getDescription() {
+        return "create users seq";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long start;
+            try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM users")) {
+                resultSet.next();
+                start = resultSet.getLong(1);
+            }
+            statement.execute("CREATE SEQUENCE " + User.ID_SEQUENCE
+                    + " START WITH " + start + " INCREMENT BY " + User.ID_ALLOCATION_SIZE);
+        }
+    }
+}
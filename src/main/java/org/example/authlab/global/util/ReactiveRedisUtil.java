@@ -0,0 +1,223 @@
+package org.example.authlab.global.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.connection.ReactiveSetCommands.SIsMemberCommand;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+// RedisUtil 의 논블로킹 버전 (reactive 프로필, Lettuce reactive 커넥션 사용)
+// 키 형식과 Lua 스크립트는 RedisUtil 과 공유하므로 MVC 노드와 함께 운영 가능
+// 동시에 보낸 명령은 Lettuce 가 하나의 커넥션에 자동으로 파이프라이닝함
+@Component
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveRedisUtil {
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    @Value("${auth.blacklist.bucket-ms:300000}")
+    private long blackListBucketMillis;
+
+    public Mono<Boolean> set(String key, String value, Duration timeout) {
+        return redisTemplate.opsForValue().set(key, value, timeout);
+    }
+
+    public Mono<Boolean> setIfAbsent(String key, String value, Duration timeout) {
+        return redisTemplate.opsForValue().setIfAbsent(key, value, timeout);
+    }
+
+    public Mono<String> get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    public Mono<Long> convertAndSend(String channel, String message) {
+        return redisTemplate.convertAndSend(channel, message);
+    }
+
+    // RedisUtil.acquireRateLimit 과 같은 스크립트 (0 이면 허용, 아니면 거절한 키의 순번)
+    public Mono<Integer> acquireRateLimit(List<String> keys, long[] intervals, long[] tolerances) {
+        return redisTemplate.execute(RedisUtil.ACQUIRE_RATE_LIMIT, keys, List.of(RedisUtil.rateLimitArgs(intervals, tolerances)))
+                .next()
+                .map(Long::intValue)
+                .defaultIfEmpty(0);
+    }
+
+    // 단조 증가 값 기록 (이미 같거나 큰 값이 있으면 false)
+    public Mono<Boolean> setIfGreater(String key, long value, long ttlMillis) {
+        return redisTemplate.execute(RedisUtil.SET_IF_GREATER, List.of(key), List.of(Long.toString(value), Long.toString(ttlMillis)))
+                .next()
+                .map(updated -> updated > 0)
+                .defaultIfEmpty(false);
+    }
+
+    // refresh 토큰 계보 생성 (RedisUtil.setRefreshFamily 와 같은 스크립트)
+    public Mono<Void> setRefreshFamily(String family, String username, String tokenId, long ttlMillis) {
+        return redisTemplate.execute(RedisUtil.SET_REFRESH_FAMILY, List.of(RedisUtil.refreshFamilyKey(family)),
+                        List.of(username, tokenId, Long.toString(ttlMillis)))
+                .then();
+    }
+
+    // 1: 회전 성공, -1: 재사용 감지 (계보 폐기), 0: 만료되었거나 없는 계보
+    public Mono<Long> rotateRefreshFamily(String family, String presentedTokenId, String nextTokenId) {
+        return redisTemplate.execute(RedisUtil.ROTATE_REFRESH_FAMILY, List.of(RedisUtil.refreshFamilyKey(family)),
+                        List.of(presentedTokenId, nextTokenId))
+                .next()
+                .defaultIfEmpty(0L);
+    }
+
+    public Mono<Boolean> deleteRefreshFamily(String family) {
+        return redisTemplate.delete(RedisUtil.refreshFamilyKey(family)).map(deleted -> deleted > 0);
+    }
+
+    // 2차 인증 세션 생성 (RedisUtil.setPreAuthSession 과 같은 스크립트)
+    public Mono<Void> setPreAuthSession(String preAuthToken, String username, String code, long ttlMillis) {
+        return redisTemplate.execute(RedisUtil.SET_PRE_AUTH, List.of(RedisUtil.PRE_AUTH_PREFIX + preAuthToken),
+                        List.of(RedisUtil.preAuthSessionArgs(preAuthToken, username, code, ttlMillis)),
+                        RedisElementWriter.from(RedisSerializer.byteArray()), RedisElementReader.from(new GenericToStringSerializer<>(Long.class)))
+                .then();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Mono<RedisUtil.PreAuthCheck> verifyPreAuth(String preAuthToken, String code, int maxAttempts) {
+        return redisTemplate.execute(RedisUtil.VERIFY_PRE_AUTH, List.of(RedisUtil.PRE_AUTH_PREFIX + preAuthToken),
+                        List.of(RedisUtil.preAuthCodeDigest(preAuthToken, code), Integer.toString(maxAttempts).getBytes(StandardCharsets.UTF_8)),
+                        RedisElementWriter.from(RedisSerializer.byteArray()), (RedisElementReader) RedisElementReader.from(RedisSerializer.string()))
+                .next()
+                .map(result -> RedisUtil.PreAuthCheck.of((List<Object>) result))
+                .defaultIfEmpty(RedisUtil.PreAuthCheck.of(null));
+    }
+
+    public Mono<Long> completePreAuthTotp(String preAuthToken, String username, long step, long stepTtlMillis, int maxAttempts) {
+        return redisTemplate.execute(RedisUtil.COMPLETE_PRE_AUTH_TOTP, List.of(RedisUtil.PRE_AUTH_PREFIX + preAuthToken, "TOTP_STEP:" + username),
+                        List.of(Long.toString(step), Long.toString(stepTtlMillis), Integer.toString(maxAttempts)))
+                .next()
+                .defaultIfEmpty(0L);
+    }
+
+    // 진행 중인 TOTP 등록 (RedisUtil.setTotpSetup 과 같은 Hash 형식)
+    public Mono<Void> setTotpSetup(String username, String secret, long ttlMillis) {
+        return redisTemplate.execute(RedisUtil.SET_TOTP_SETUP, List.of(RedisUtil.totpSetupKey(username)), List.of(secret, Long.toString(ttlMillis)))
+                .then();
+    }
+
+    public Mono<RedisUtil.TotpSetup> getTotpSetup(String username, String field) {
+        ByteBuffer key = ByteBuffer.wrap(RedisUtil.totpSetupKey(username).getBytes(StandardCharsets.UTF_8));
+        List<ByteBuffer> fields = List.of(ByteBuffer.wrap(RedisUtil.TOTP_SETUP_SECRET), ByteBuffer.wrap(field.getBytes(StandardCharsets.UTF_8)));
+        return redisTemplate.execute(connection -> connection.hashCommands().hMGet(key, fields))
+                .next()
+                .mapNotNull(values -> {
+                    List<byte[]> bytes = new ArrayList<>(values.size());
+                    for (ByteBuffer value : values) {
+                        bytes.add(value != null ? ByteUtils.getBytes(value) : null);
+                    }
+                    return RedisUtil.TotpSetup.of(bytes);
+                });
+    }
+
+    public Mono<String> getTotpSetupSecret(String username) {
+        return redisTemplate.<String, String>opsForHash().get(RedisUtil.totpSetupKey(username), "s");
+    }
+
+    public Mono<Boolean> cacheTotpSetupRender(String username, String secret, String field, byte[] rendered) {
+        return redisTemplate.execute(RedisUtil.CACHE_TOTP_SETUP_RENDER, List.of(RedisUtil.totpSetupKey(username)),
+                        List.of(secret.getBytes(StandardCharsets.UTF_8), field.getBytes(StandardCharsets.UTF_8), rendered),
+                        RedisElementWriter.from(RedisSerializer.byteArray()), RedisElementReader.from(new GenericToStringSerializer<>(Long.class)))
+                .next()
+                .map(cached -> cached > 0)
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<Boolean> deleteTotpSetup(String username) {
+        return redisTemplate.delete(RedisUtil.totpSetupKey(username)).map(deleted -> deleted > 0);
+    }
+
+    // 사용자 토큰 세대 (키가 없으면 0)
+    public Mono<Long> getTokenGeneration(String username) {
+        return redisTemplate.opsForValue().get(RedisUtil.tokenGenerationKey(username))
+                .map(Long::parseLong)
+                .defaultIfEmpty(0L);
+    }
+
+    public Mono<List<Long>> getTokenGenerations(List<String> usernames) {
+        return redisTemplate.opsForValue().multiGet(usernames.stream().map(RedisUtil::tokenGenerationKey).toList())
+                .map(RedisUtil::parseGenerations);
+    }
+
+    public Mono<Long> incrementTokenGeneration(String username, String channel) {
+        return redisTemplate.execute(RedisUtil.INCREMENT_TOKEN_GENERATION, List.of(RedisUtil.tokenGenerationKey(username)), List.of(channel, username))
+                .next()
+                .defaultIfEmpty(0L);
+    }
+
+    // 블랙리스트 등록 (RedisUtil.setBlackList 와 같은 버킷 Set)
+    public Mono<Void> setBlackList(byte[] digest, long expiration) {
+        long bucket = expiration / blackListBucketMillis;
+        ByteBuffer key = ByteBuffer.wrap(RedisUtil.blackListKey(bucket));
+        return redisTemplate.execute(connection -> connection.setCommands().sAdd(key.duplicate(), ByteBuffer.wrap(digest))
+                        .then(connection.keyCommands().pExpireAt(key.duplicate(), Instant.ofEpochMilli((bucket + 1) * blackListBucketMillis))))
+                .then();
+    }
+
+    // 블랙리스트 확인
+    public Mono<Boolean> isBlackListed(byte[] digest, long expiration) {
+        ByteBuffer key = ByteBuffer.wrap(RedisUtil.blackListKey(expiration / blackListBucketMillis));
+        return redisTemplate.execute(connection -> connection.setCommands().sIsMember(key, ByteBuffer.wrap(digest)))
+                .next()
+                .defaultIfEmpty(false);
+    }
+
+    // legacyToken 이 있으면 이전 방식 키(토큰 원문)도 함께 확인 (두 명령을 동시에 보냄)
+    public Mono<Boolean> isBlackListed(byte[] digest, long expiration, String legacyToken) {
+        if (legacyToken == null) {
+            return isBlackListed(digest, expiration);
+        }
+        return Mono.zip(isBlackListed(digest, expiration), redisTemplate.hasKey(legacyToken), (member, legacy) -> member || legacy);
+    }
+
+    // 여러 토큰의 블랙리스트 확인 (명령을 한 번에 흘려보내 파이프라이닝, 결과는 입력 순서)
+    public Mono<List<Boolean>> areBlackListed(List<byte[]> digests, long[] expirations) {
+        List<SIsMemberCommand> commands = new ArrayList<>(digests.size());
+        for (int i = 0; i < digests.size(); i++) {
+            commands.add(SIsMemberCommand.value(ByteBuffer.wrap(digests.get(i)))
+                    .of(ByteBuffer.wrap(RedisUtil.blackListKey(expirations[i] / blackListBucketMillis))));
+        }
+        return redisTemplate.execute(connection -> connection.setCommands().sIsMember(Flux.fromIterable(commands)))
+                .map(response -> Boolean.TRUE.equals(response.getOutput()))
+                .collectList();
+    }
+
+    // legacyTokens: digests 와 같은 순서의 이전 방식 키 (null 원소는 확인하지 않음)
+    public Mono<List<Boolean>> areBlackListed(List<byte[]> digests, long[] expirations, List<String> legacyTokens) {
+        if (legacyTokens == null || legacyTokens.stream().allMatch(Objects::isNull)) {
+            return areBlackListed(digests, expirations);
+        }
+        Mono<List<Boolean>> legacy = Flux.fromIterable(legacyTokens)
+                .flatMapSequential(token -> token != null ? redisTemplate.hasKey(token) : Mono.just(false))
+                .collectList();
+        return Mono.zip(areBlackListed(digests, expirations), legacy, (members, legacyKeys) -> {
+            List<Boolean> revoked = new ArrayList<>(members.size());
+            for (int i = 0; i < members.size(); i++) {
+                revoked.add(members.get(i) || legacyKeys.get(i));
+            }
+            return revoked;
+        });
+    }
+}
@@ -1,20 +1,166 @@
 package org.example.authlab.global.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class RedisUtil {
+    // KEYS[1] 에 저장된 숫자보다 ARGV[1] 이 클 때만 갱신 (원자적)
+    static final RedisScript<Long> SET_IF_GREATER = RedisScript.of("""
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if current and current >= tonumber(ARGV[1]) then return 0 end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // refresh 토큰 계보 생성: KEYS[1]=계보, ARGV[1]=사용자, ARGV[2]=현재 토큰 id, ARGV[3]=TTL(ms) (TTL 없는 계보가 남지 않도록 원자적으로)
+    static final RedisScript<Long> SET_REFRESH_FAMILY = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'u', ARGV[1], 'c', ARGV[2])
+            return redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            """, Long.class);
+
+    // refresh 토큰 회전: 제시한 토큰이 계보의 현재 토큰이면 교체하고 1
+    // 이미 교체된 토큰이면(재사용) 계보 전체를 폐기하고 -1, 계보가 없으면 0
+    // TTL 은 로그인 때 정한 값을 유지 (회전할 때마다 연장하면 계보가 끝없이 살아남음)
+    static final RedisScript<Long> ROTATE_REFRESH_FAMILY = RedisScript.of("""
+            local current = redis.call('HGET', KEYS[1], 'c')
+            if not current then return 0 end
+            if current ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return -1
+            end
+            redis.call('HSET', KEYS[1], 'c', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 토큰 세대 증가 후 "<세대>:<사용자>" 를 ARGV[1] 채널로 전파, 새 세대 반환
+    static final RedisScript<Long> INCREMENT_TOKEN_GENERATION = RedisScript.of("""
+            local generation = redis.call('INCR', KEYS[1])
+            redis.call('PUBLISH', ARGV[1], generation .. ':' .. ARGV[2])
+            return generation
+            """, Long.class);
+
+    // 2차 인증 세션 생성: KEYS[1]=세션, ARGV[1]=username, ARGV[2]=방식(C|T), ARGV[3]=TTL(ms), ARGV[4]=이메일 코드 digest(TOTP 면 없음)
+    // TTL 없는 세션이 남지 않도록 원자적으로
+    static final RedisScript<Long> SET_PRE_AUTH = RedisScript.of("""
+            if ARGV[4] then
+                redis.call('HSET', KEYS[1], 'u', ARGV[1], 't', ARGV[2], 'c', ARGV[4])
+            else
+                redis.call('HSET', KEYS[1], 'u', ARGV[1], 't', ARGV[2])
+            end
+            return redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            """, Long.class);
+
+    // 2차 인증 세션 검증: KEYS[1]=세션, ARGV[1]=제시한 코드 digest, ARGV[2]=최대 실패 횟수
+    // {상태, username} 반환. 0: 세션 없음(만료/소비/잠김), 1: 이메일 코드 일치(세션 삭제)
+    // 2: TOTP 세션(코드 검증은 애플리케이션에서), -1: 불일치(실패 횟수 증가, 최대치에 도달하면 세션 삭제)
+    static final RedisScript<List> VERIFY_PRE_AUTH = RedisScript.of("""
+            local session = redis.call('HMGET', KEYS[1], 'u', 't', 'c')
+            if not session[1] then return {0} end
+            if session[2] == 'T' then return {2, session[1]} end
+            if session[3] == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return {1, session[1]}
+            end
+            if redis.call('HINCRBY', KEYS[1], 'a', 1) >= tonumber(ARGV[2]) then redis.call('DEL', KEYS[1]) end
+            return {-1, session[1]}
+            """, List.class);
+
+    // TOTP 검증 결과 반영: KEYS[1]=세션, KEYS[2]=사용자별 마지막 time step, ARGV[1]=일치한 step(불일치면 -1)
+    // ARGV[2]=step 보관 시간(ms), ARGV[3]=최대 실패 횟수
+    // 1: 성공(step 기록, 세션 삭제), 0: 세션 없음, -1: 불일치, -2: 이미 사용된 step (실패 시 횟수 증가, 최대치에 도달하면 세션 삭제)
+    static final RedisScript<Long> COMPLETE_PRE_AUTH_TOTP = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            local step = tonumber(ARGV[1])
+            local result = -1
+            if step >= 0 then
+                local last = tonumber(redis.call('GET', KEYS[2]))
+                if not last or last < step then
+                    redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+                    redis.call('DEL', KEYS[1])
+                    return 1
+                end
+                result = -2
+            end
+            if redis.call('HINCRBY', KEYS[1], 'a', 1) >= tonumber(ARGV[3]) then redis.call('DEL', KEYS[1]) end
+            return result
+            """, Long.class);
+
+    // TOTP 등록 시작: 이전 등록(시크릿, 렌더링 캐시)을 지우고 새 시크릿 저장 (KEYS[1]=등록, ARGV[1]=시크릿, ARGV[2]=TTL(ms))
+    static final RedisScript<Long> SET_TOTP_SETUP = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 's', ARGV[1])
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    // QR 코드 렌더링 캐싱: 등록이 아직 같은 시크릿일 때만 기록 (만료/교체된 등록을 TTL 없이 되살리지 않음)
+    // KEYS[1]=등록, ARGV[1]=시크릿, ARGV[2]=형식 필드, ARGV[3]=렌더링 결과
+    static final RedisScript<Long> CACHE_TOTP_SETUP_RENDER = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 's') ~= ARGV[1] then return 0 end
+            return redis.call('HSETNX', KEYS[1], ARGV[2], ARGV[3])
+            """, Long.class);
+
+    // 요청 제한 (GCRA): KEYS[i] 에 다음 허용 시각(TAT) 저장, ARGV[2i-1]=interval, ARGV[2i]=tolerance (ms)
+    // 모든 키가 허용될 때만 갱신하고 0, 거절되면 처음 거절한 키의 순번
+    static final RedisScript<Long> ACQUIRE_RATE_LIMIT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local next = {}
+            for i = 1, #KEYS do
+                local tat = math.max(tonumber(redis.call('GET', KEYS[i])) or now, now)
+                if tat - now > tonumber(ARGV[2 * i]) then return i end
+                next[i] = tat + tonumber(ARGV[2 * i - 1])
+            end
+            for i = 1, #KEYS do
+                redis.call('SET', KEYS[i], next[i], 'PX', next[i] - now)
+            end
+            return 0
+            """, Long.class);
+
+    static final String LEGACY_BLACKLIST_PATTERN = "eyJ*";
+    static final String PRE_AUTH_PREFIX = "PRE_AUTH:";
+    static final byte[] PRE_AUTH_CSPRNG = {'C'};
+    static final byte[] PRE_AUTH_TOTP = {'T'};
+    static final byte[] TOTP_SETUP_SECRET = {'s'};
+
     private final StringRedisTemplate redisTemplate;
 
+    // 블랙리스트 버킷 크기 (이 단위로 Set 을 나누고 만료시킴)
+    @Value("${auth.blacklist.bucket-ms:300000}")
+    private long blackListBucketMillis;
+
     public void set(String key, String value, long timeout, TimeUnit unit) {
         redisTemplate.opsForValue().set(key, value, timeout, unit);
     }
 
+    // 키가 없을 때만 저장 (이미 있으면 false)
+    public boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, timeout, unit));
+    }
+
     public String get(String key) {
         return redisTemplate.opsForValue().get(key);
     }
@@ -28,13 +174,280 @@ public class RedisUtil {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
-    // 블랙리스트 등록
-    public void setBlackList(String token, long remainingTime) {
-        redisTemplate.opsForValue().set(token, "logout", remainingTime, TimeUnit.MILLISECONDS);
+    // 여러 명령을 파이프라인으로 묶어 1회 왕복으로 전송 (결과는 명령 순서대로 반환)
+    @SuppressWarnings("unchecked")
+    public List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    public void hashPut(String key, String field, String value) {
+        redisTemplate.opsForHash().put(key, field, value);
+    }
+
+    public Map<String, String> hashEntries(String key) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        return hash.entries(key);
+    }
+
+    public void hashDelete(String key, String... fields) {
+        redisTemplate.opsForHash().delete(key, (Object[]) fields);
+    }
+
+    // 0 이면 허용, 아니면 거절한 키의 순번 (1부터)
+    public int acquireRateLimit(List<String> keys, long[] intervals, long[] tolerances) {
+        Long rejected = redisTemplate.execute(ACQUIRE_RATE_LIMIT, keys, (Object[]) rateLimitArgs(intervals, tolerances));
+        return rejected != null ? rejected.intValue() : 0;
+    }
+
+    // ACQUIRE_RATE_LIMIT 인자 (키마다 interval, tolerance 순서)
+    static String[] rateLimitArgs(long[] intervals, long[] tolerances) {
+        String[] args = new String[intervals.length * 2];
+        for (int i = 0; i < intervals.length; i++) {
+            args[2 * i] = Long.toString(intervals[i]);
+            args[2 * i + 1] = Long.toString(tolerances[i]);
+        }
+        return args;
+    }
+
+    // 단조 증가 값 기록 (이미 같거나 큰 값이 있으면 false)
+    public boolean setIfGreater(String key, long value, long ttlMillis) {
+        Long updated = redisTemplate.execute(SET_IF_GREATER, List.of(key), Long.toString(value), Long.toString(ttlMillis));
+        return updated != null && updated > 0;
+    }
+
+    // refresh 토큰 계보 생성 (Hash: u=사용자, c=현재 토큰 id, 스크립트 1회)
+    public void setRefreshFamily(String family, String username, String tokenId, long ttlMillis) {
+        redisTemplate.execute(SET_REFRESH_FAMILY, List.of(refreshFamilyKey(family)), username, tokenId, Long.toString(ttlMillis));
+    }
+
+    // 1: 회전 성공, -1: 재사용 감지 (계보 폐기), 0: 만료되었거나 없는 계보
+    public long rotateRefreshFamily(String family, String presentedTokenId, String nextTokenId) {
+        Long result = redisTemplate.execute(ROTATE_REFRESH_FAMILY, List.of(refreshFamilyKey(family)), presentedTokenId, nextTokenId);
+        return result != null ? result : 0;
+    }
+
+    // 로그아웃한 세션의 refresh 토큰 계보 폐기
+    public void deleteRefreshFamily(String family) {
+        redisTemplate.delete(refreshFamilyKey(family));
+    }
+
+    // 2차 인증 세션 생성 (Hash 1개: u=username, t=방식 C|T, c=이메일 코드 digest, 실패 횟수 a 는 첫 실패 때 생성)
+    // code 가 null 이면 TOTP 세션, 코드 원문은 저장하지 않음
+    public void setPreAuthSession(String preAuthToken, String username, String code, long ttlMillis) {
+        redisTemplate.execute(SET_PRE_AUTH, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                List.of(PRE_AUTH_PREFIX + preAuthToken), (Object[]) preAuthSessionArgs(preAuthToken, username, code, ttlMillis));
+    }
+
+    // SET_PRE_AUTH 인자 (RedisUtil, ReactiveRedisUtil 공유)
+    static byte[][] preAuthSessionArgs(String preAuthToken, String username, String code, long ttlMillis) {
+        byte[] user = username.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = Long.toString(ttlMillis).getBytes(StandardCharsets.UTF_8);
+        return code != null
+                ? new byte[][]{user, PRE_AUTH_CSPRNG, ttl, preAuthCodeDigest(preAuthToken, code)}
+                : new byte[][]{user, PRE_AUTH_TOTP, ttl};
+    }
+
+    // VERIFY_PRE_AUTH 결과 (TOTP 세션이면 code 는 비교하지 않음)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PreAuthCheck verifyPreAuth(String preAuthToken, String code, int maxAttempts) {
+        List<Object> result = redisTemplate.execute(VERIFY_PRE_AUTH, RedisSerializer.byteArray(), (RedisSerializer) RedisSerializer.string(),
+                List.of(PRE_AUTH_PREFIX + preAuthToken),
+                preAuthCodeDigest(preAuthToken, code), Integer.toString(maxAttempts).getBytes(StandardCharsets.UTF_8));
+        return PreAuthCheck.of(result);
+    }
+
+    // COMPLETE_PRE_AUTH_TOTP 결과 (step 이 음수면 실패로 기록)
+    public long completePreAuthTotp(String preAuthToken, String username, long step, long stepTtlMillis, int maxAttempts) {
+        Long result = redisTemplate.execute(COMPLETE_PRE_AUTH_TOTP, List.of(PRE_AUTH_PREFIX + preAuthToken, "TOTP_STEP:" + username),
+                Long.toString(step), Long.toString(stepTtlMillis), Integer.toString(maxAttempts));
+        return result != null ? result : 0;
+    }
+
+    // 세션별로 다른 값이 되도록 preAuthToken 과 함께 해시 (16byte)
+    static byte[] preAuthCodeDigest(String preAuthToken, String code) {
+        return Arrays.copyOf(Digests.sha256(preAuthToken + ":" + code), 16);
+    }
+
+    // status: 0 세션 없음, 1 이메일 코드 일치, 2 TOTP 세션, -1 불일치
+    public record PreAuthCheck(long status, String username) {
+        public static PreAuthCheck of(List<Object> result) {
+            if (result == null || result.isEmpty()) {
+                return new PreAuthCheck(0, null);
+            }
+            return new PreAuthCheck((Long) result.get(0), result.size() > 1 ? (String) result.get(1) : null);
+        }
+    }
+
+    // 진행 중인 TOTP 등록 (Hash: s=시크릿, png/svg=렌더링 결과)
+    public void setTotpSetup(String username, String secret, long ttlMillis) {
+        redisTemplate.execute(SET_TOTP_SETUP, List.of(totpSetupKey(username)), secret, Long.toString(ttlMillis));
+    }
+
+    // 시크릿과 요청한 형식의 렌더링 결과를 HMGET 1회로 조회 (등록이 없으면 null, 렌더링 전이면 rendered 가 null)
+    public TotpSetup getTotpSetup(String username, String field) {
+        byte[] key = totpSetupKey(username).getBytes(StandardCharsets.UTF_8);
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.hashCommands().hMGet(key, TOTP_SETUP_SECRET, field.getBytes(StandardCharsets.UTF_8)));
+        return TotpSetup.of(values);
+    }
+
+    public String getTotpSetupSecret(String username) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        return hash.get(totpSetupKey(username), "s");
+    }
+
+    public boolean cacheTotpSetupRender(String username, String secret, String field, byte[] rendered) {
+        Long cached = redisTemplate.execute(CACHE_TOTP_SETUP_RENDER, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                List.of(totpSetupKey(username)), secret.getBytes(StandardCharsets.UTF_8), field.getBytes(StandardCharsets.UTF_8), rendered);
+        return cached != null && cached > 0;
+    }
+
+    public void deleteTotpSetup(String username) {
+        redisTemplate.delete(totpSetupKey(username));
+    }
+
+    static String totpSetupKey(String username) {
+        return "TOTP_SETUP:" + username;
+    }
+
+    public record TotpSetup(String secret, byte[] rendered) {
+        public static TotpSetup of(List<byte[]> values) {
+            if (values == null || values.isEmpty() || values.get(0) == null) {
+                return null;
+            }
+            return new TotpSetup(new String(values.get(0), StandardCharsets.UTF_8), values.size() > 1 ? values.get(1) : null);
+        }
+    }
+
+    static String tokenGenerationKey(String username) {
+        return "TOKEN_GEN:" + username;
+    }
+
+    static List<Long> parseGenerations(List<String> generations) {
+        List<Long> parsed = new ArrayList<>(generations.size());
+        for (String generation : generations) {
+            parsed.add(generation != null ? Long.parseLong(generation) : 0L);
+        }
+        return parsed;
+    }
+
+    static String refreshFamilyKey(String family) {
+        return "REFRESH_FAMILY:" + family;
+    }
+
+    // 블랙리스트 등록 (토큰 만료 시각 기준 버킷 Set 에 고정 길이 digest 저장, 버킷 단위로 만료)
+    public void setBlackList(byte[] digest, long expiration) {
+        setBlackList(redisTemplate, digest, expiration);
+    }
+
+    // 파이프라인 안에서 블랙리스트 등록
+    public void setBlackList(RedisOperations<String, String> operations, byte[] digest, long expiration) {
+        long bucket = expiration / blackListBucketMillis;
+        byte[] key = blackListKey(bucket);
+        operations.execute((RedisCallback<Object>) connection -> {
+            connection.setCommands().sAdd(key, digest);
+            connection.keyCommands().pExpireAt(key, (bucket + 1) * blackListBucketMillis);
+            return null;
+        });
     }
 
     // 블랙리스트 확인
-    public boolean isBlackListed(String token) {
-        return hasKey(token);
+    public boolean isBlackListed(byte[] digest, long expiration) {
+        byte[] key = blackListKey(expiration / blackListBucketMillis);
+        return Boolean.TRUE.equals(redisTemplate.execute(
+                (RedisCallback<Boolean>) connection -> connection.setCommands().sIsMember(key, digest)));
+    }
+
+    // legacyToken 이 있으면 이전 방식 키(토큰 원문)도 같은 왕복에서 확인
+    public boolean isBlackListed(byte[] digest, long expiration, String legacyToken) {
+        if (legacyToken == null) {
+            return isBlackListed(digest, expiration);
+        }
+        return areBlackListed(List.of(digest), new long[]{expiration}, Collections.singletonList(legacyToken)).get(0);
+    }
+
+    // 사용자 토큰 세대 (키가 없으면 0)
+    public long getTokenGeneration(String username) {
+        String generation = redisTemplate.opsForValue().get(tokenGenerationKey(username));
+        return generation != null ? Long.parseLong(generation) : 0L;
+    }
+
+    // 여러 사용자의 토큰 세대를 MGET 1회로 조회 (입력 순서)
+    public List<Long> getTokenGenerations(List<String> usernames) {
+        List<String> generations = redisTemplate.opsForValue().multiGet(usernames.stream().map(RedisUtil::tokenGenerationKey).toList());
+        return parseGenerations(generations);
+    }
+
+    // 세대 증가 + 전파를 스크립트 1회로 처리 (만료시키지 않음: 0 으로 돌아가면 폐기한 토큰이 다시 유효해짐)
+    public long incrementTokenGeneration(String username, String channel) {
+        Long generation = redisTemplate.execute(INCREMENT_TOKEN_GENERATION, List.of(tokenGenerationKey(username)), channel, username);
+        return generation != null ? generation : 0L;
+    }
+
+    // 여러 토큰의 블랙리스트 확인 (SISMEMBER 를 파이프라인 1회 왕복으로, 결과는 입력 순서)
+    public List<Boolean> areBlackListed(List<byte[]> digests, long[] expirations) {
+        return areBlackListed(digests, expirations, null);
+    }
+
+    // legacyTokens: digests 와 같은 순서의 이전 방식 키 (null 이거나 null 원소면 확인하지 않음), EXISTS 도 같은 파이프라인으로
+    public List<Boolean> areBlackListed(List<byte[]> digests, long[] expirations, List<String> legacyTokens) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < digests.size(); i++) {
+                connection.setCommands().sIsMember(blackListKey(expirations[i] / blackListBucketMillis), digests.get(i));
+                if (legacyTokens != null && legacyTokens.get(i) != null) {
+                    connection.keyCommands().exists(legacyTokens.get(i).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<Boolean> revoked = new ArrayList<>(digests.size());
+        int next = 0;
+        for (int i = 0; i < digests.size(); i++) {
+            boolean member = Boolean.TRUE.equals(results.get(next++));
+            if (legacyTokens != null && legacyTokens.get(i) != null) {
+                member |= Boolean.TRUE.equals(results.get(next++));
+            }
+            revoked.add(member);
+        }
+        return revoked;
+    }
+
+    // 이전 방식 블랙리스트 키 (JWT 원문이 키, "eyJ" 로 시작) 를 SCAN 으로 순회
+    public void scanLegacyBlackList(Consumer<String> consumer) {
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(LEGACY_BLACKLIST_PATTERN).count(1000).build())) {
+            keys.forEachRemaining(consumer);
+        }
+    }
+
+    // 만료 시각이 [from, to] 인 버킷의 모든 digest 조회 (파이프라인 1회 왕복)
+    @SuppressWarnings("unchecked")
+    public List<byte[]> getBlackListMembers(long fromExpiration, long toExpiration) {
+        long first = fromExpiration / blackListBucketMillis;
+        long last = toExpiration / blackListBucketMillis;
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long bucket = first; bucket <= last; bucket++) {
+                connection.setCommands().sMembers(blackListKey(bucket));
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<byte[]> members = new ArrayList<>();
+        for (Object result : results) {
+            if (result instanceof Collection<?> bucketMembers) {
+                members.addAll((Collection<byte[]>) bucketMembers);
+            }
+        }
+        return members;
+    }
+
+    static byte[] blackListKey(long bucket) {
+        return ("BLACKLIST:" + bucket).getBytes(StandardCharsets.UTF_8);
     }
 }
@@ -0,0 +1,185 @@
+package org.example.authlab.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션용 replica 풀 (정상인 replica 를 라운드 로빈으로 사용)
+// 주기적으로 각 replica 의 연결과 복제 지연(lagQuery)을 확인하고, 끊겼거나 지연이 maxLagSeconds 를 넘은 replica 는 제외
+// 사용할 수 있는 replica 가 없으면 primary 로 보냄 (기동 직후 첫 확인이 끝나기 전에도 primary)
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+    // MariaDB/MySQL SHOW REPLICA STATUS 의 지연 컬럼 (없으면 첫 번째 컬럼을 지연 초로 사용)
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService checker;
+    private final Counter replicaRoutes;
+    private final Counter primaryRoutes;
+
+    public ReplicaDataSource(DataSource primary, List<? extends DataSource> replicaPools, String lagQuery,
+                             long maxLagSeconds, long checkIntervalMillis, ThreadFactory threadFactory,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        for (int i = 0; i < replicaPools.size(); i++) {
+            Replica replica = new Replica("replica-" + (i + 1), replicaPools.get(i));
+            replicas.add(replica);
+            Gauge.builder("auth.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("auth.datasource.replica.lag.seconds", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+        this.replicaRoutes = meterRegistry.counter("auth.datasource.read.route", "target", "replica");
+        this.primaryRoutes = meterRegistry.counter("auth.datasource.read.route", "target", "primary");
+
+        if (replicas.isEmpty()) {
+            this.checker = null;
+        } else {
+            this.checker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            checker.scheduleWithFixedDelay(this::checkAll, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                // 다음 확인 주기까지 기다리지 않고 바로 제외
+                replica.markDown("연결 실패: " + e.getMessage());
+            }
+        }
+        primaryRoutes.increment();
+        return primary.getConnection();
+    }
+
+    // replica 풀 계정은 설정으로 고정되어 있으므로 계정을 지정한 요청은 primary 로
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryRoutes.increment();
+        return primary.getConnection(username, password);
+    }
+
+    public int healthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                // 복제 설정이 없는 서버는 언제까지 오래된 데이터를 줄지 알 수 없으므로 제외
+                if (!resultSet.next()) {
+                    replica.markDown("복제 상태가 없습니다.");
+                    return;
+                }
+                long lag = resultSet.getLong(lagColumn(resultSet));
+                if (resultSet.wasNull()) {
+                    replica.markDown("복제가 중단되었습니다.");
+                    return;
+                }
+                replica.lagSeconds = lag;
+                if (lag > maxLagSeconds) {
+                    replica.markDown("복제 지연 " + lag + "s");
+                } else {
+                    replica.markUp();
+                }
+            }
+        } catch (SQLException e) {
+            replica.markDown("상태 확인 실패: " + e.getMessage());
+        }
+    }
+
+    private static int lagColumn(ResultSet resultSet) {
+        try {
+            return resultSet.findColumn(LAG_COLUMN);
+        } catch (SQLException e) {
+            return 1;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    log.warn("{} 풀 종료 실패: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagSeconds;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        // 상태가 바뀔 때만 기록
+        private void markDown(String reason) {
+            if (healthy) {
+                log.warn("{} 을(를) 읽기 대상에서 제외합니다: {}", name, reason);
+            }
+            healthy = false;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                log.info("{} 을(를) 읽기 대상에 추가합니다 (지연 {}s)", name, lagSeconds);
+            }
+            healthy = true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.authlab.global.util;
+
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 여러 개의 SecureRandom 을 나눠 쓰는 풀
+// 기본 NativePRNG 는 synchronized 블록 안에서 /dev/urandom 을 읽어 Virtual Thread 가 carrier 에 고정(pinning)되므로
+// 초기 시딩 이후 파일 I/O 가 없는 DRBG 를 사용하고, 락 경합을 줄이기 위해 인스턴스를 분산
+@Component
+public class SecureRandomPool {
+    private final SecureRandom[] stripes;
+
+    public SecureRandomPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SecureRandomPool(int size) {
+        this.stripes = new SecureRandom[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = newInstance();
+        }
+    }
+
+    public SecureRandom get() {
+        return stripes[ThreadLocalRandom.current().nextInt(stripes.length)];
+    }
+
+    public int nextInt(int bound) {
+        return get().nextInt(bound);
+    }
+
+    public byte[] nextBytes(int length) {
+        byte[] bytes = new byte[length];
+        get().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static SecureRandom newInstance() {
+        try {
+            SecureRandom random = SecureRandom.getInstance("DRBG");
+            // 시딩을 생성 시점에 끝내 요청 경로에서 엔트로피 수집이 일어나지 않도록 함
+            random.nextBytes(new byte[1]);
+            return random;
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
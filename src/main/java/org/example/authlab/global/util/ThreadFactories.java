@@ -0,0 +1,29 @@
+package org.example.authlab.global.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+// 백그라운드 작업용 ThreadFactory
+// spring.threads.virtual.enabled=true (Java 21+) 이면 Virtual Thread, 아니면 Platform Thread
+@Component
+@RequiredArgsConstructor
+public class ThreadFactories {
+    private final Environment environment;
+
+    public ThreadFactory create(String prefix) {
+        if (isVirtual()) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory(prefix);
+    }
+
+    public boolean isVirtual() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+}
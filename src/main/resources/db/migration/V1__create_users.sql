@@ -0,0 +1,11 @@
+-- ddl-auto: update 가 만들던 users 테이블 (기존 DB 는 baseline-on-migrate 로 V1 을 건너뜀)
+CREATE TABLE users (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    username        VARCHAR(255) NOT NULL,
+    password        VARCHAR(255) NOT NULL,
+    two_factor_type ENUM ('NONE', 'TOTP', 'CSPRNG'),
+    totp_secret     VARCHAR(255),
+    email           VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
@@ -0,0 +1,40 @@
+package org.example.authlab.domain.auth.blacklist;
+
+import org.example.authlab.global.util.Digests;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+    private static final long WINDOW = 1_000;
+
+    @Test
+    void keepsEntriesForAtLeastOneWindow() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW, 1_000, 0.001);
+        byte[] token = Digests.sha256("token");
+
+        filter.add(token, 999);
+
+        assertThat(filter.mightContain(token, 999)).isTrue();
+        assertThat(filter.mightContain(token, 999 + WINDOW)).isTrue();
+        assertThat(filter.mightContain(token, 2 * WINDOW + 1)).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredRate() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(WINDOW, 1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(Digests.sha256("revoked-" + i), 0);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(Digests.sha256("active-" + i), 0)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 10_000.0).isLessThan(0.03);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.authlab.domain.auth.delivery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.authlab.global.util.ThreadFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class CodeDeliveryServiceTest {
+    private CodeDeliveryService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void deliversQueuedCodesOffTheCallerThread() {
+        List<CodeMessage> sent = new CopyOnWriteArrayList<>();
+        service = start(sent::addAll);
+
+        assertThat(service.enqueue("a@test.com", "123456")).isTrue();
+        assertThat(service.enqueue("b@test.com", "654321")).isTrue();
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> sent.size() == 2);
+        assertThat(sent).extracting(CodeMessage::code).containsExactlyInAnyOrder("123456", "654321");
+    }
+
+    @Test
+    void movesMessageToDeadLetterQueueAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        service = start(batch -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("smtp down");
+        });
+
+        service.enqueue("a@test.com", "123456");
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> calls.get() == 3);
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(service.drainDeadLetters()).extracting(CodeMessage::attempt).containsExactly(3));
+    }
+
+    @Test
+    void masksRecipientForLogs() {
+        assertThat(CodeMessage.of("alice@example.com", "123456").maskedEmail()).isEqualTo("a***@example.com");
+        assertThat(CodeMessage.of("not-an-address", "123456").maskedEmail()).isEqualTo("***");
+    }
+
+    private CodeDeliveryService start(CodeSender sender) {
+        CodeDeliveryService started = new CodeDeliveryService(sender,
+                new ThreadFactories(new MockEnvironment()), new SimpleMeterRegistry(),
+                1, 10, 5, 3, 10, 10);
+        started.start();
+        return started;
+    }
+}
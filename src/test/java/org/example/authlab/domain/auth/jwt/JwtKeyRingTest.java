@@ -0,0 +1,46 @@
+package org.example.authlab.domain.auth.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 새 키는 JWKS 에 publish-lead-ms 이상 게시된 뒤에 서명에 사용
+class JwtKeyRingTest {
+    private static final long LEAD_MS = 500;
+
+    @Test
+    void signsOnlyWithKeysPublishedForTheLeadTime() throws InterruptedException {
+        JwtKeyRing keyRing = new JwtKeyRing(null, null, "ES256", 60_000, LEAD_MS, 1_000, 0);
+
+        keyRing.rotate();
+        assertThat(keyRing.current()).isNull();
+        List<String> published = kids(keyRing);
+        assertThat(published).hasSize(1);
+
+        // 게시 기간 전에는 승격하지 않음
+        keyRing.rotate();
+        assertThat(keyRing.current()).isNull();
+
+        Thread.sleep(LEAD_MS + 50);
+        keyRing.rotate();
+
+        // 먼저 게시한 키로 서명하고, 다음 교체에 쓸 예약 키를 바로 게시
+        assertThat(keyRing.current().kid()).isEqualTo(published.get(0));
+        assertThat(kids(keyRing)).hasSize(2).contains(published.get(0));
+        assertThat(keyRing.publicKey(published.get(0))).isEqualTo(keyRing.current().publicKey());
+
+        // 교체 주기 전에는 그대로
+        keyRing.rotate();
+        assertThat(keyRing.current().kid()).isEqualTo(published.get(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> kids(JwtKeyRing keyRing) {
+        return ((List<Map<String, Object>>) keyRing.jwks().get("keys")).stream()
+                .map(jwk -> (String) jwk.get("kid"))
+                .toList();
+    }
+}
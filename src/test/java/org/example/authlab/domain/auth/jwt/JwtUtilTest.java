@@ -0,0 +1,64 @@
+package org.example.authlab.domain.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ES256 모드에서 공유 시크릿(HS512)으로 만든 토큰 처리
+class JwtUtilTest {
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key-test-secret-key-0123";
+
+    @Test
+    void rejectsHs512TokensInEs256Mode() {
+        JwtUtil jwtUtil = create(null);
+
+        // 시크릿을 아는 쪽이 임의 사용자, 먼 만료 시각, 높은 세대로 만든 access 토큰
+        assertThat(jwtUtil.verify(forge(Instant.now(), Instant.now().plus(365, ChronoUnit.DAYS)))).isEmpty();
+        assertThat(jwtUtil.verify(jwtUtil.createAccessToken("alice", "family", null, 0))).isPresent();
+    }
+
+    @Test
+    void acceptsHs512TokensOnlyBeforeTheLegacyCutoff() {
+        Instant cutoff = Instant.now().plus(1, ChronoUnit.HOURS);
+        JwtUtil jwtUtil = create(cutoff.toString());
+
+        JwtClaims claims = jwtUtil.verify(forge(Instant.now().minusSeconds(60), Instant.now().plus(365, ChronoUnit.DAYS))).orElseThrow();
+        // 토큰의 exp 와 상관없이 마감까지만 유효
+        assertThat(claims.expiration()).isEqualTo(cutoff.toEpochMilli());
+        // 마감 이후 발급으로 표시된 토큰
+        assertThat(jwtUtil.verify(forge(cutoff.plusSeconds(1), cutoff.plus(1, ChronoUnit.DAYS)))).isEmpty();
+        // 마감이 지난 뒤
+        assertThat(create(Instant.now().minusSeconds(1).toString())
+                .verify(forge(Instant.now().minusSeconds(60), Instant.now().plus(1, ChronoUnit.DAYS)))).isEmpty();
+    }
+
+    private static JwtUtil create(String legacyHs512Until) {
+        JwtUtil jwtUtil = new JwtUtil(new JwtClaimsCache(100), JwtKeyRing.local(SignatureAlgorithm.ES256));
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 1_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "legacyHs512Until", legacyHs512Until);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static String forge(Instant issuedAt, Instant expiration) {
+        return Jwts.builder()
+                .setSubject("victim")
+                .claim("type", JwtTokenType.ACCESS)
+                .claim("gen", Long.MAX_VALUE)
+                .setIssuedAt(Date.from(issuedAt))
+                .setExpiration(Date.from(expiration))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.authlab.domain.auth.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+    private final RateLimitRule rule = new RateLimitRule("username", 5, 60_000);
+
+    @Test
+    void allowsBurstUpToCapacityThenOnePerInterval() {
+        LocalRateLimiter limiter = new LocalRateLimiter(100, 60_000);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("alice", rule, 0)).isTrue();
+        }
+        assertThat(limiter.tryAcquire("alice", rule, 0)).isFalse();
+        assertThat(limiter.tryAcquire("bob", rule, 0)).isTrue();
+
+        assertThat(limiter.tryAcquire("alice", rule, rule.intervalMillis() - 1)).isFalse();
+        assertThat(limiter.tryAcquire("alice", rule, rule.intervalMillis())).isTrue();
+        assertThat(limiter.tryAcquire("alice", rule, rule.intervalMillis())).isFalse();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.authlab.domain.auth.totp;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.MultiFormatReader;
+import com.google.zxing.Result;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 직접 기록한 PNG/SVG 를 zxing 리더로 다시 읽어 otpauth URI 확인
+class QrCodeRendererTest {
+    private static final int SCALE = 4;
+    private static final String URI = new TotpProvisioning("AuthLab", 600, SCALE, 1)
+            .uri("alice@example.com", "JBSWY3DPEHPK3PXPJBSWY3DPEHPK3PXP");
+    private static final Pattern SVG_RUN = Pattern.compile("M(\\d+) (\\d+)h(\\d+)v1h-\\d+z");
+
+    // 풀 크기 1 이라 두 번째 렌더링은 반환된 인코더(Deflater, 버퍼)를 재사용
+    private final QrCodeRenderer renderer = new QrCodeRenderer(SCALE, 1);
+
+    @Test
+    void pngDecodesToTheUriAndReusedEncoderWritesTheSameBytes() throws Exception {
+        ByteMatrix matrix = renderer.encode(URI);
+
+        byte[] first = png(matrix);
+        byte[] second = png(matrix);
+
+        assertThat(second).isEqualTo(first);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(first));
+        assertThat(image.getWidth()).isEqualTo(renderer.size(matrix));
+        assertThat(image.getHeight()).isEqualTo(renderer.size(matrix));
+        assertThat(decode(image).getText()).isEqualTo(URI);
+    }
+
+    @Test
+    void svgDecodesToTheUri() throws Exception {
+        ByteMatrix matrix = renderer.encode(URI);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.writeSvg(matrix, out);
+        String svg = out.toString(StandardCharsets.US_ASCII);
+
+        int size = renderer.size(matrix);
+        assertThat(svg).startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + size + "\" height=\"" + size + "\"")
+                .endsWith("\"/></svg>");
+        assertThat(decode(rasterize(svg, size)).getText()).isEqualTo(URI);
+    }
+
+    private byte[] png(ByteMatrix matrix) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.writePng(matrix, out);
+        return out.toByteArray();
+    }
+
+    // path 의 가로 사각형(단위: 모듈)을 scale 배로 칠한 흑백 이미지
+    private static BufferedImage rasterize(String svg, int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_BYTE_BINARY);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, 0xFFFFFF);
+            }
+        }
+        Matcher run = SVG_RUN.matcher(svg);
+        while (run.find()) {
+            int x = Integer.parseInt(run.group(1)) * SCALE;
+            int y = Integer.parseInt(run.group(2)) * SCALE;
+            int width = Integer.parseInt(run.group(3)) * SCALE;
+            for (int dy = 0; dy < SCALE; dy++) {
+                for (int dx = 0; dx < width; dx++) {
+                    image.setRGB(x + dx, y + dy, 0);
+                }
+            }
+        }
+        return image;
+    }
+
+    private static Result decode(BufferedImage image) throws Exception {
+        return new MultiFormatReader().decode(new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image))));
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.authlab.domain.auth.totp;
+
+import com.warrenstrange.googleauth.GoogleAuthenticator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TotpVerifierTest {
+    // RFC 6238 부록 B 의 SHA1 시크릿 ("12345678901234567890")
+    private static final String RFC_SECRET = "GEZDGNBVGY3TQOJQGEZDGNBVGY3TQOJQ";
+
+    private final TotpVerifier verifier = new TotpVerifier(100, 1);
+
+    @Test
+    void matchesRfcTestVectors() {
+        assertThat(verifier.verify(RFC_SECRET, 287082, 59_000L)).isEqualTo(1);
+        assertThat(verifier.verify(RFC_SECRET, 81804, 1111111109_000L)).isEqualTo(37037036);
+    }
+
+    @Test
+    void agreesWithGoogleAuthenticatorWithinWindow() {
+        GoogleAuthenticator gAuth = new GoogleAuthenticator();
+        String secret = gAuth.createCredentials().getKey();
+        long now = System.currentTimeMillis();
+        long step = now / TotpVerifier.TIME_STEP_MILLIS;
+
+        int previous = gAuth.getTotpPassword(secret, now - TotpVerifier.TIME_STEP_MILLIS);
+        int current = gAuth.getTotpPassword(secret, now);
+
+        assertThat(verifier.verify(secret, current, now)).isEqualTo(step);
+        assertThat(verifier.verify(secret, previous, now)).isIn(step - 1, step);
+        int outside = gAuth.getTotpPassword(secret, now - 3 * TotpVerifier.TIME_STEP_MILLIS);
+        if (outside != current && outside != previous
+                && outside != gAuth.getTotpPassword(secret, now + TotpVerifier.TIME_STEP_MILLIS)) {
+            assertThat(verifier.verify(secret, outside, now)).isEqualTo(-1);
+        }
+    }
+}
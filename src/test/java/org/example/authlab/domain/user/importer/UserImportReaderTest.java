@@ -0,0 +1,54 @@
+package org.example.authlab.domain.user.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserImportReaderTest {
+
+    @Test
+    void readsCsvByHeaderWithQuotedFields() throws Exception {
+        String csv = "email,username,password\n\"a,b@example.com\",alice,\"pa,ss\"\"word\"\n\n,bob,secret\n";
+
+        List<UserImportRow> rows = readAll(csv, UserImportFormat.CSV);
+
+        assertThat(rows).containsExactly(
+                new UserImportRow("alice", "pa,ss\"word", null, "a,b@example.com"),
+                new UserImportRow("bob", "secret", null, null));
+    }
+
+    @Test
+    void readsNdjson() throws Exception {
+        String ndjson = "{\"username\":\"alice\",\"password\":\"pw\"}\n{\"username\":\"bob\",\"passwordHash\":\"{bcrypt}$2a$10$x\"}\n";
+
+        List<UserImportRow> rows = readAll(ndjson, UserImportFormat.NDJSON);
+
+        assertThat(rows).extracting(UserImportRow::username).containsExactly("alice", "bob");
+        assertThat(rows).allMatch(UserImportRow::isValid);
+    }
+
+    @Test
+    void rejectsValuesLongerThanTheColumn() {
+        String longValue = "a".repeat(UserImportRow.MAX_COLUMN_LENGTH + 1);
+
+        assertThat(new UserImportRow("a".repeat(UserImportRow.MAX_COLUMN_LENGTH), "pw", null, null).isValid()).isTrue();
+        assertThat(new UserImportRow(longValue, "pw", null, null).isValid()).isFalse();
+        assertThat(new UserImportRow("alice", "pw", null, longValue + "@example.com").isValid()).isFalse();
+        assertThat(new UserImportRow("alice", null, "{bcrypt}" + longValue, null).isValid()).isFalse();
+    }
+
+    private static List<UserImportRow> readAll(String input, UserImportFormat format) throws Exception {
+        Iterator<UserImportRow> iterator = UserImportReader.read(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, new ObjectMapper());
+        List<UserImportRow> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+}
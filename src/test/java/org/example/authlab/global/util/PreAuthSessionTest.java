@@ -0,0 +1,114 @@
+package org.example.authlab.global.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 인증 세션 스크립트(SET_PRE_AUTH, VERIFY_PRE_AUTH, COMPLETE_PRE_AUTH_TOTP)의 상태 전이 (내장 Redis)
+class PreAuthSessionTest {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long TTL_MILLIS = 60_000;
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisUtil redisUtil;
+    private static ReactiveRedisUtil reactiveRedisUtil;
+
+    @BeforeAll
+    static void start() throws Exception {
+        int port;
+        // 포트만 고르고 소켓을 닫은 뒤 Redis 시작
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisUtil = new RedisUtil(redisTemplate);
+        reactiveRedisUtil = new ReactiveRedisUtil(new ReactiveStringRedisTemplate(connectionFactory));
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @Test
+    void emailCodeMismatchCountsAttemptsAndMatchConsumesSession() {
+        redisUtil.setPreAuthSession("p1", "alice", "123456", TTL_MILLIS);
+
+        // 세션 생성과 TTL 설정이 함께 적용됨
+        assertThat(redisTemplate.getExpire("PRE_AUTH:p1")).isPositive();
+        assertThat(redisUtil.verifyPreAuth("p1", "000000", MAX_ATTEMPTS)).isEqualTo(new RedisUtil.PreAuthCheck(-1, "alice"));
+        assertThat(redisTemplate.opsForHash().get("PRE_AUTH:p1", "a")).isEqualTo("1");
+
+        assertThat(redisUtil.verifyPreAuth("p1", "123456", MAX_ATTEMPTS)).isEqualTo(new RedisUtil.PreAuthCheck(1, "alice"));
+        // 같은 코드 재사용
+        assertThat(redisUtil.verifyPreAuth("p1", "123456", MAX_ATTEMPTS)).isEqualTo(new RedisUtil.PreAuthCheck(0, null));
+    }
+
+    @Test
+    void emailCodeSessionIsDeletedAtMaxAttempts() {
+        redisUtil.setPreAuthSession("p2", "alice", "123456", TTL_MILLIS);
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            assertThat(redisUtil.verifyPreAuth("p2", "000000", MAX_ATTEMPTS).status()).isEqualTo(-1);
+        }
+
+        assertThat(redisTemplate.hasKey("PRE_AUTH:p2")).isFalse();
+        assertThat(redisUtil.verifyPreAuth("p2", "123456", MAX_ATTEMPTS).status()).isZero();
+    }
+
+    @Test
+    void totpSessionRejectsReusedStepAndLocksOut() {
+        redisUtil.setPreAuthSession("t1", "bob", null, TTL_MILLIS);
+
+        assertThat(redisUtil.verifyPreAuth("t1", "ignored", MAX_ATTEMPTS)).isEqualTo(new RedisUtil.PreAuthCheck(2, "bob"));
+        assertThat(redisUtil.completePreAuthTotp("t1", "bob", 100, TTL_MILLIS, MAX_ATTEMPTS)).isEqualTo(1);
+        // 성공하면 세션 소비
+        assertThat(redisUtil.completePreAuthTotp("t1", "bob", 101, TTL_MILLIS, MAX_ATTEMPTS)).isZero();
+
+        // 다른 세션에서도 이미 사용한 step 이하는 거절, 실패가 최대치에 도달하면 세션 삭제
+        redisUtil.setPreAuthSession("t2", "bob", null, TTL_MILLIS);
+        assertThat(redisUtil.completePreAuthTotp("t2", "bob", 100, TTL_MILLIS, MAX_ATTEMPTS)).isEqualTo(-2);
+        assertThat(redisUtil.completePreAuthTotp("t2", "bob", 99, TTL_MILLIS, MAX_ATTEMPTS)).isEqualTo(-2);
+        assertThat(redisUtil.completePreAuthTotp("t2", "bob", -1, TTL_MILLIS, MAX_ATTEMPTS)).isEqualTo(-1);
+        assertThat(redisTemplate.hasKey("PRE_AUTH:t2")).isFalse();
+        assertThat(redisUtil.completePreAuthTotp("t2", "bob", 101, TTL_MILLIS, MAX_ATTEMPTS)).isZero();
+    }
+
+    @Test
+    void reactiveSessionUsesTheSameFormat() {
+        reactiveRedisUtil.setPreAuthSession("r1", "carol", "654321", TTL_MILLIS).block();
+
+        assertThat(redisTemplate.getExpire("PRE_AUTH:r1")).isPositive();
+        assertThat(redisUtil.verifyPreAuth("r1", "654321", MAX_ATTEMPTS)).isEqualTo(new RedisUtil.PreAuthCheck(1, "carol"));
+
+        reactiveRedisUtil.setPreAuthSession("r2", "carol", null, TTL_MILLIS).block();
+        assertThat(reactiveRedisUtil.verifyPreAuth("r2", "ignored", MAX_ATTEMPTS).block()).isEqualTo(new RedisUtil.PreAuthCheck(2, "carol"));
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.authlab.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaDataSourceTest {
+    private static final long HOUR_MILLIS = 3_600_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReplicaDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void roundRobinsOverHealthyReplicasAndSkipsLaggingOnes() throws SQLException {
+        StubDatabase primary = new StubDatabase(0);
+        StubDatabase first = new StubDatabase(0);
+        StubDatabase second = new StubDatabase(0);
+        dataSource = create(primary, first, second);
+        await().until(() -> dataSource.healthyReplicas() == 2);
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection()))
+                .containsExactlyInAnyOrder(first.connection, second.connection);
+
+        second.lag.set(30);
+        dataSource.checkAll();
+
+        assertThat(dataSource.healthyReplicas()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isSameAs(first.connection);
+        assertThat(dataSource.getConnection()).isSameAs(first.connection);
+
+        second.lag.set(0);
+        dataSource.checkAll();
+
+        assertThat(dataSource.healthyReplicas()).isEqualTo(2);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsUsable() throws SQLException {
+        StubDatabase primary = new StubDatabase(0);
+        StubDatabase lagging = new StubDatabase(30);
+        StubDatabase down = new StubDatabase(0);
+        dataSource = create(primary, lagging, down);
+        await().until(() -> dataSource.healthyReplicas() == 1);
+
+        // 상태 확인 사이에 끊긴 replica 는 연결 실패 시 바로 제외하고 primary 사용
+        down.available = false;
+
+        assertThat(dataSource.getConnection()).isSameAs(primary.connection);
+        assertThat(dataSource.healthyReplicas()).isZero();
+        assertThat(meterRegistry.counter("auth.datasource.read.route", "target", "primary").count()).isEqualTo(1);
+    }
+
+    @Test
+    void connectionWithExplicitCredentialsGoesToPrimary() throws SQLException {
+        StubDatabase primary = new StubDatabase(0);
+        dataSource = create(primary, new StubDatabase(0), new StubDatabase(0));
+        Connection connection = mock(Connection.class);
+        when(primary.dataSource.getConnection("admin", "secret")).thenReturn(connection);
+
+        assertThat(dataSource.getConnection("admin", "secret")).isSameAs(connection);
+    }
+
+    private ReplicaDataSource create(StubDatabase primary, StubDatabase... replicas) {
+        return new ReplicaDataSource(primary.dataSource,
+                List.of(replicas[0].dataSource, replicas[1].dataSource),
+                "SHOW REPLICA STATUS", 5, HOUR_MILLIS, Executors.defaultThreadFactory(), meterRegistry);
+    }
+
+    // SHOW REPLICA STATUS 에 lag 값을 돌려주는 DataSource
+    private static final class StubDatabase {
+        private final AtomicLong lag;
+        private final DataSource dataSource = mock(DataSource.class);
+        private final Connection connection = mock(Connection.class);
+        private volatile boolean available = true;
+
+        private StubDatabase(long lagSeconds) {
+            this.lag = new AtomicLong(lagSeconds);
+            try {
+                Statement statement = mock(Statement.class);
+                when(dataSource.getConnection()).thenAnswer(invocation -> {
+                    if (!available) {
+                        throw new SQLException("Connection refused");
+                    }
+                    return connection;
+                });
+                when(connection.createStatement()).thenReturn(statement);
+                when(statement.executeQuery(anyString())).thenAnswer(invocation -> {
+                    ResultSet resultSet = mock(ResultSet.class);
+                    when(resultSet.next()).thenReturn(true);
+                    when(resultSet.findColumn("Seconds_Behind_Master")).thenReturn(33);
+                    when(resultSet.getLong(33)).thenReturn(lag.get());
+                    return resultSet;
+                });
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}